@@ -0,0 +1,235 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.torrosoft.triviazo.core.data.DeckBuilder;
+import com.torrosoft.triviazo.core.data.QuestionIndex;
+import com.torrosoft.triviazo.core.data.QuestionSource;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.core.enums.Language;
+import com.torrosoft.triviazo.util.SplitMix64;
+
+/**
+ * Plays games with the {@link GameEngine} as fast as the CPU allows, one
+ * thread per core, to balance the game modes and to load test the engine.
+ * Each game gets a deck from {@link DeckBuilder} on a synthetic bank and a
+ * simulated player: it knows the right answer with some probability and
+ * takes an exponentially distributed time to answer, on top of a minimum.
+ * <p>
+ * Run {@link #main(String[])}. Arguments: [seconds] [accuracy] [mean answer
+ * seconds].
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class GameSimulation {
+    private static final int QUESTIONS_PER_DISCIPLINE = 100;
+    private static final int DECK_SIZE = 10;
+    private static final long MIN_ANSWER_NANOS = 1000000000L;
+    private static final GameMode[] MODES = GameMode.values();
+
+    private GameSimulation() {}
+
+    /**
+     * Entry point.
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        final double seconds = (args.length > 0) ? Double.parseDouble(args[0])
+                : 5;
+        final double accuracy = (args.length > 1) ? Double.parseDouble(args[1])
+                : 0.7;
+        final double meanSeconds = (args.length > 2) ? Double
+                .parseDouble(args[2]) : 2;
+
+        final QuestionIndex index = new QuestionIndex(new SyntheticBank());
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final SplitMix64 root = new SplitMix64(42);
+        final Player[] players = new Player[threads];
+        for (int i = 0; i < threads; i++) {
+            players[i] = new Player(index, root.split(), accuracy,
+                    (long) (meanSeconds * 1e9), (long) (seconds * 1e9));
+        }
+
+        final long start = System.nanoTime();
+        for (final Player player : players) {
+            player.start();
+        }
+        for (final Player player : players) {
+            player.join();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        final Stats total = new Stats();
+        for (final Player player : players) {
+            total.add(player.stats);
+        }
+
+        System.out.println(String.format(
+                "%d questions, %d threads, accuracy %.2f, %.1f s + %.1f s mean per answer",
+                index.size(), threads, accuracy, MIN_ANSWER_NANOS / 1e9,
+                meanSeconds));
+        System.out.println(String.format("%,.0f games/s, %,d games in %.1f s",
+                total.games() / (elapsed / 1e9), total.games(), elapsed / 1e9));
+        for (final GameMode mode : MODES) {
+            final int m = mode.ordinal();
+            final long games = Math.max(total.games[m], 1);
+            System.out.println(String.format(
+                    "  %-22s score %7.1f, %5.1f answered, %5.1f timed out, %5.1f%% ended by the clock",
+                    mode.getName(), total.score[m] / (double) games,
+                    total.answered[m] / (double) games, total.timedOut[m]
+                            / (double) games, total.clockEnds[m] * 100.0
+                            / games));
+        }
+    }
+
+    /**
+     * The totals of the games played, by game mode.
+     */
+    private static final class Stats {
+        private final long[] games = new long[MODES.length];
+        private final long[] score = new long[MODES.length];
+        private final long[] answered = new long[MODES.length];
+        private final long[] timedOut = new long[MODES.length];
+        private final long[] clockEnds = new long[MODES.length];
+
+        private void add(final Stats other) {
+            for (int m = 0; m < MODES.length; m++) {
+                games[m] += other.games[m];
+                score[m] += other.score[m];
+                answered[m] += other.answered[m];
+                timedOut[m] += other.timedOut[m];
+                clockEnds[m] += other.clockEnds[m];
+            }
+        }
+
+        private long games() {
+            long res = 0;
+            for (final long count : games) {
+                res += count;
+            }
+            return res;
+        }
+    }
+
+    /**
+     * A thread playing the game modes in turn, with its own random stream.
+     */
+    private static final class Player extends Thread {
+        private final QuestionIndex index;
+        private final DeckBuilder builder;
+        private final CurrentGameConfig config = new CurrentGameConfig();
+        private final Random rnd;
+        private final double accuracy;
+        private final long meanNanos;
+        private final long runNanos;
+        private final Stats stats = new Stats();
+
+        private Player(final QuestionIndex pIndex, final Random pRnd,
+                final double pAccuracy, final long pMeanNanos,
+                final long pRunNanos) {
+            index = pIndex;
+            builder = new DeckBuilder(pIndex);
+            rnd = pRnd;
+            accuracy = pAccuracy;
+            meanNanos = pMeanNanos;
+            runNanos = pRunNanos;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            int game = 0;
+            do {
+                // The clock is checked every few games, it's not free
+                for (int i = 0; i < 64; i++) {
+                    play(MODES[game % MODES.length]);
+                    game += 1;
+                }
+            } while ((System.nanoTime() - start) < runNanos);
+        }
+
+        private void play(final GameMode mode) {
+            final int size = (mode != GameMode.TEMPUS_FUGIT) ? DECK_SIZE
+                    : Integer.MAX_VALUE;
+            final int[] deck = builder.build(Language.es_ES,
+                    config.getDisciplines(), Difficulty.ALL, size, rnd);
+            final GameEngine engine = new GameEngine(mode, index, deck);
+
+            int answered = 0;
+            long now = 0;
+            while (!engine.isOver()) {
+                final int right = engine.getCurrent().getRight();
+                now += MIN_ANSWER_NANOS
+                        + (long) (-Math.log(1 - rnd.nextDouble()) * meanNanos);
+                final int answer = (rnd.nextDouble() < accuracy) ? right
+                        : (right + 1 + rnd.nextInt(Question.MAX_ANSWERS - 1))
+                                % Question.MAX_ANSWERS;
+                final int position = engine.getPosition();
+                engine.tick(now - engine.getElapsedNanos());
+                if (engine.isOver() || (engine.getPosition() != position)) {
+                    continue; // The time ran out while thinking
+                }
+                engine.answer(answer, now);
+                answered += 1;
+            }
+
+            final int m = mode.ordinal();
+            stats.games[m] += 1;
+            stats.score[m] += engine.getScore();
+            stats.answered[m] += answered;
+            stats.timedOut[m] += engine.getCorrect() + engine.getIncorrect()
+                    - answered;
+            if (engine.getPosition() < engine.getDeckSize()) {
+                stats.clockEnds[m] += 1;
+            }
+        }
+    }
+
+    /**
+     * Questions in Spanish of every discipline and difficulty, with the right
+     * answer in any position.
+     */
+    private static final class SyntheticBank implements QuestionSource {
+        @Override
+        public List<Question> getQuestions(final Language lang,
+                final Difficulty diff, final Discipline dis) {
+            final List<Question> res = new ArrayList<Question>();
+            int pkid = 0;
+            for (final Discipline d : Discipline.values()) {
+                for (int i = 0; i < QUESTIONS_PER_DISCIPLINE; i++) {
+                    pkid += 1;
+                    final Question que = new Question(String.valueOf(pkid),
+                            "Question " + pkid, Language.es_ES,
+                            Difficulty.values()[i % 3], d);
+                    que.setAnswers(new String[] { "A", "B", "C", "D" });
+                    que.setRight(pkid % Question.MAX_ANSWERS);
+                    res.add(que);
+                }
+            }
+            return res;
+        }
+    }
+}
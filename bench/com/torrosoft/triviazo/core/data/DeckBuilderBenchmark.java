@@ -0,0 +1,108 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.torrosoft.triviazo.core.CurrentGameConfig;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Times {@link DeckBuilder} on a skewed synthetic bank, where each discipline
+ * has ten times fewer questions than the one before (50,000 for the first,
+ * 1 for the last), and shows how a deck is split among the disciplines.
+ * <p>
+ * Run {@link #main(String[])}. Arguments: [deck size].
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class DeckBuilderBenchmark {
+    private static final int DEFAULT_DECK_SIZE = 20;
+    private static final int LARGEST_DISCIPLINE = 50000;
+    private static final long MIN_NANOS = 1000000000L;
+
+    private DeckBuilderBenchmark() {}
+
+    /**
+     * Entry point.
+     */
+    public static void main(final String[] args) {
+        final int deckSize = (args.length > 0) ? Integer.parseInt(args[0])
+                : DEFAULT_DECK_SIZE;
+
+        final QuestionIndex index = new QuestionIndex(new SkewedBank());
+        final DeckBuilder builder = new DeckBuilder(index);
+        final CurrentGameConfig config = new CurrentGameConfig();
+        config.setNumQuestions(deckSize);
+        final Random rnd = new Random(42);
+
+        final int[] perDiscipline = new int[Discipline.values().length];
+        for (final int id : builder.build(Language.es_ES, config, rnd)) {
+            perDiscipline[index.get(id).getDiscipline().ordinal()] += 1;
+        }
+        System.out.println(index.size() + " questions, deck of " + deckSize);
+        for (final Discipline dis : Discipline.values()) {
+            System.out.println(String.format("  %-12s %6d in the bank %4d in the deck",
+                    dis.getName(), index.candidates(Language.es_ES, null, dis).cardinality(),
+                    perDiscipline[dis.ordinal()]));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            builder.build(Language.es_ES, config, rnd);
+        }
+        int decks = 0;
+        final long start = System.nanoTime();
+        long elapsed;
+        do {
+            builder.build(Language.es_ES, config, rnd);
+            decks += 1;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_NANOS);
+        System.out.println(String.format("  %.0f decks/s, %.2f us per deck",
+                decks / (elapsed / 1e9), elapsed / 1e3 / decks));
+    }
+
+    /**
+     * Questions in Spanish spread over every difficulty.
+     */
+    private static final class SkewedBank implements QuestionSource {
+        @Override
+        public List<Question> getQuestions(final Language lang,
+                final Difficulty diff, final Discipline dis) {
+            final List<Question> res = new ArrayList<Question>();
+            int count = LARGEST_DISCIPLINE;
+            int pkid = 0;
+            for (final Discipline d : Discipline.values()) {
+                for (int i = 0; i < Math.max(count, 1); i++) {
+                    pkid += 1;
+                    res.add(new Question(String.valueOf(pkid), "Question " + pkid,
+                            Language.es_ES, Difficulty.values()[i % 3], d));
+                }
+                count /= 10;
+            }
+            return res;
+        }
+    }
+}
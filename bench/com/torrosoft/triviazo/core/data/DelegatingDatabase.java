@@ -0,0 +1,97 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A database that forwards every call to another one, so the benchmarks can
+ * change or observe just the calls they care about.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+class DelegatingDatabase extends Database {
+    protected final Database db;
+
+    DelegatingDatabase(final Database pDb) {
+        db = pDb;
+    }
+
+    @Override
+    public void execute(final String sql) {
+        db.execute(sql);
+    }
+
+    @Override
+    public int executeUpdate(final String sql) {
+        return db.executeUpdate(sql);
+    }
+
+    @Override
+    public Result query(final String sql) {
+        return db.query(sql);
+    }
+
+    @Override
+    public void execute(final String sql, final Object... args) {
+        db.execute(sql, args);
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final Object... args) {
+        return db.executeUpdate(sql, args);
+    }
+
+    @Override
+    public Result query(final String sql, final Object... args) {
+        return db.query(sql, args);
+    }
+
+    @Override
+    public void close() {
+        db.close();
+    }
+
+    @Override
+    public void beginBatch() {
+        db.beginBatch();
+    }
+
+    @Override
+    public void addBatch(final String sql, final Object... args) {
+        db.addBatch(sql, args);
+    }
+
+    @Override
+    public void commitBatch() {
+        db.commitBatch();
+    }
+
+    @Override
+    public void rollbackBatch() {
+        db.rollbackBatch();
+    }
+
+    @Override
+    protected InputStream openAsset(final String path) throws IOException {
+        return db.openAsset(path);
+    }
+}
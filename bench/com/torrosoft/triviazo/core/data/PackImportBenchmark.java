@@ -0,0 +1,148 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.torrosoft.triviazo.core.data.pack.QuestionPackImporter;
+import com.torrosoft.triviazo.core.data.pack.QuestionPackWriter;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Measures the import throughput of a generated text question pack.
+ * <p>
+ * On desktop run {@link #main(String[])}. On Android generate the pack with
+ * {@link #generate(File, int)} and call {@link #run(Database, File)} from the
+ * launcher.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class PackImportBenchmark {
+    private static final int DEFAULT_QUESTIONS = 1000000;
+    private static int transactionSize = QuestionPackImporter.DEFAULT_TRANSACTION_SIZE;
+
+    private PackImportBenchmark() {}
+
+    /**
+     * Desktop entry point. Arguments: [questions] [transaction size].
+     */
+    public static void main(final String[] args) throws IOException {
+        final int nQuestions = (args.length > 0) ? Integer.parseInt(args[0])
+                : DEFAULT_QUESTIONS;
+        if (args.length > 1) transactionSize = Integer.parseInt(args[1]);
+
+        // Never touch the player's database
+        Database.database_name = "triviazo-bench";
+        final File file = new File(Database.database_name + ".sqlite");
+        if (file.exists() && !file.delete()) {
+            throw new IllegalStateException("Can't delete " + file);
+        }
+
+        final File pack = File.createTempFile("triviazo", ".pack");
+        pack.deleteOnExit();
+        final long start = System.nanoTime();
+        generate(pack, nQuestions);
+        System.out.println(String.format("Generated %d questions (%.1f MB) in %.2f s",
+                nQuestions, pack.length() / 1048576.0,
+                (System.nanoTime() - start) / 1e9));
+
+        System.out.println(run(new DatabaseDesktop(), pack));
+        if (!pack.delete()) pack.deleteOnExit();
+    }
+
+    /**
+     * Writes a pack of synthetic questions spread over every language,
+     * difficulty and discipline.
+     */
+    public static void generate(final File pack, final int nQuestions)
+            throws IOException {
+        final Language[] langs = Language.values();
+        final Discipline[] disciplines = Discipline.values();
+        final Difficulty[] difficulties = { Difficulty.EASY, Difficulty.NORMAL,
+                Difficulty.HARD };
+        final String[] answers = new String[Question.MAX_ANSWERS];
+        final Question que = new Question(null, null, answers, 0, null, null,
+                null);
+
+        final QuestionPackWriter writer = new QuestionPackWriter(
+                new FileOutputStream(pack));
+        try {
+            writer.comment("Generated by PackImportBenchmark");
+            for (int i = 0; i < nQuestions; i++) {
+                que.setStatement("Synthetic question number " + i
+                        + ", which one is the right answer?");
+                for (int j = 0; j < Question.MAX_ANSWERS; j++) {
+                    answers[j] = "Answer " + j + " of question " + i;
+                }
+                que.setRight(i % Question.MAX_ANSWERS);
+                que.setLang(langs[i % langs.length]);
+                que.setDifficulty(difficulties[i % difficulties.length]);
+                que.setDiscipline(disciplines[i % disciplines.length]);
+                writer.write(que);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Imports the pack in a batch and reports the throughput.
+     */
+    public static String run(final Database db, final File pack)
+            throws IOException {
+        final Runtime rt = Runtime.getRuntime();
+        System.gc();
+        final long heapBefore = rt.totalMemory() - rt.freeMemory();
+
+        final InputStream in = new BufferedInputStream(new FileInputStream(pack));
+        final long start = System.nanoTime();
+        int imported;
+        try {
+            db.beginBatch();
+            imported = new QuestionPackImporter(db, transactionSize)
+                    .importPack(in);
+            db.commitBatch();
+        } finally {
+            in.close();
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final long heapAfter = rt.totalMemory() - rt.freeMemory();
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(db.getClass().getSimpleName()).append(" pack import\n");
+        sb.append(String.format("  questions    %10d%n", imported));
+        sb.append(String.format("  time         %10.2f s%n", seconds));
+        sb.append(String.format("  throughput   %10.0f questions/s%n",
+                imported / seconds));
+        sb.append(String.format("               %10.2f MB/s%n",
+                pack.length() / 1048576.0 / seconds));
+        sb.append(String.format("  heap growth  %10.2f MB (before GC)",
+                (heapAfter - heapBefore) / 1048576.0));
+        return sb.toString();
+    }
+}
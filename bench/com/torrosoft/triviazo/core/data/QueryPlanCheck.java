@@ -0,0 +1,161 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.Database.Result;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Checks that no query of the game scans a whole table. It records every
+ * statement issued by the question and score lookups, runs EXPLAIN QUERY
+ * PLAN on each one and fails if any step of a plan is a SCAN.
+ * <p>
+ * On desktop run {@link #main(String[])}, the exit status is 1 if the check
+ * fails. On Android call {@link #run(Database, StringBuilder)} with a
+ * {@link DatabaseAndroid} from the launcher.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class QueryPlanCheck {
+    /**
+     * The description of each step of a plan.
+     */
+    private static final RowMapper<String> DETAIL = new RowMapper<String>() {
+        private int detailCol;
+
+        @Override
+        protected void resolve(final Result res) {
+            detailCol = res.getColumnIndex("detail");
+        }
+
+        @Override
+        protected String map(final Result res) {
+            return res.getString(detailCol);
+        }
+    };
+
+    private QueryPlanCheck() {}
+
+    /**
+     * Desktop entry point.
+     */
+    public static void main(final String[] args) {
+        // Never touch the player's database
+        Database.database_name = "triviazo-bench";
+        final File file = new File(Database.database_name + ".sqlite");
+        if (file.exists() && !file.delete()) {
+            throw new IllegalStateException("Can't delete " + file);
+        }
+
+        final StringBuilder report = new StringBuilder();
+        final boolean ok = run(new DatabaseDesktop(), report);
+        System.out.println(report);
+        if (!ok) System.exit(1);
+    }
+
+    /**
+     * Explains every statement of the question and score lookups.
+     * 
+     * @param db
+     *            An already created database.
+     * @param report
+     *            Receives the plan of each statement.
+     * @return True if no statement scans a table.
+     */
+    public static boolean run(final Database db, final StringBuilder report) {
+        final RecordingDatabase recorder = new RecordingDatabase(db);
+        final Language[] languages = { null, Language.es_ES };
+        final Difficulty[] difficulties = { null, Difficulty.NORMAL };
+        final Discipline[] disciplines = { null, Discipline.HISTORY };
+        for (final Language lang : languages) {
+            for (final Difficulty diff : difficulties) {
+                for (final Discipline dis : disciplines) {
+                    recorder.getQuestions(lang, diff, dis);
+                }
+            }
+        }
+        recorder.getScoreForGameMode(GameMode.TEMPUS_FUGIT);
+        recorder.addScoreForGameMode(GameMode.TEMPUS_FUGIT, 0);
+
+        boolean ok = true;
+        for (int i = 0; i < recorder.statements.size(); i++) {
+            final String sql = recorder.statements.get(i);
+            final Object[] args = recorder.arguments.get(i);
+            report.append(sql).append('\n');
+            report.append("  ").append(Arrays.toString(args)).append('\n');
+
+            for (final String detail : db.queryList("EXPLAIN QUERY PLAN " + sql,
+                    DETAIL, args)) {
+                final boolean scan = detail.startsWith("SCAN");
+                ok &= !scan;
+                report.append(scan ? "  FAIL " : "  ok   ").append(detail)
+                        .append('\n');
+            }
+        }
+
+        report.append(ok ? "No table scans" : "Some statements scan a table");
+        return ok;
+    }
+
+    /**
+     * Keeps the statements and their arguments, and lets them run.
+     */
+    private static final class RecordingDatabase extends DelegatingDatabase {
+        final List<String> statements = new ArrayList<String>();
+        final List<Object[]> arguments = new ArrayList<Object[]>();
+
+        RecordingDatabase(final Database pDb) {
+            super(pDb);
+        }
+
+        private void record(final String sql, final Object... args) {
+            if (!statements.contains(sql)) {
+                statements.add(sql);
+                arguments.add(args);
+            }
+        }
+
+        @Override
+        public void execute(final String sql, final Object... args) {
+            record(sql, args);
+            super.execute(sql, args);
+        }
+
+        @Override
+        public int executeUpdate(final String sql, final Object... args) {
+            record(sql, args);
+            return super.executeUpdate(sql, args);
+        }
+
+        @Override
+        public Result query(final String sql, final Object... args) {
+            record(sql, args);
+            return super.query(sql, args);
+        }
+    }
+}
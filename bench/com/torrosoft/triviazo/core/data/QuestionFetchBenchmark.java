@@ -0,0 +1,153 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.File;
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Compares the single joined query of
+ * {@link Database#getQuestions(Language, com.torrosoft.triviazo.core.enums.Difficulty, Discipline)}
+ * with the former one-query-per-question mapping.
+ * <p>
+ * On desktop run {@link #main(String[])}. On Android build a
+ * {@link DatabaseAndroid} and call {@link #run(Database, int, int)} from the
+ * launcher, the report is the same.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class QuestionFetchBenchmark {
+    private static final int DEFAULT_QUESTIONS = 20000;
+    private static final int DEFAULT_ITERATIONS = 5;
+    private static final int WARMUP_ITERATIONS = 2;
+
+    private QuestionFetchBenchmark() {}
+
+    /**
+     * Desktop entry point. Arguments: [synthetic questions] [iterations].
+     */
+    public static void main(final String[] args) {
+        final int nQuestions = (args.length > 0) ? Integer.parseInt(args[0])
+                : DEFAULT_QUESTIONS;
+        final int iterations = (args.length > 1) ? Integer.parseInt(args[1])
+                : DEFAULT_ITERATIONS;
+
+        // Never touch the player's database
+        Database.database_name = "triviazo-bench";
+        final File file = new File(Database.database_name + ".sqlite");
+        if (file.exists() && !file.delete()) {
+            throw new IllegalStateException("Can't delete " + file);
+        }
+
+        System.out.println(run(new DatabaseDesktop(), nQuestions, iterations));
+    }
+
+    /**
+     * Adds the synthetic questions and measures both fetch paths for every
+     * discipline.
+     * 
+     * @param db
+     *            A freshly created database.
+     * @param nQuestions
+     *            Number of synthetic questions to add to the bank.
+     * @param iterations
+     *            Measured iterations per fetch path.
+     * @return The report.
+     */
+    @SuppressWarnings("deprecation")
+    public static String run(final Database db, final int nQuestions,
+            final int iterations) {
+        populate(db, nQuestions);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            fetchAll(db, true);
+            fetchAll(db, false);
+        }
+
+        long joined = 0;
+        long perQuestion = 0;
+        int loaded = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            loaded = fetchAll(db, true);
+            joined += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            fetchAll(db, false);
+            perQuestion += System.nanoTime() - start;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(db.getClass().getSimpleName()).append(": ").append(loaded)
+                .append(" questions per iteration\n");
+        sb.append(String.format("  joined query       %10.2f ms/iteration%n",
+                joined / 1e6 / iterations));
+        sb.append(String.format("  query per question %10.2f ms/iteration%n",
+                perQuestion / 1e6 / iterations));
+        sb.append(String.format("  speed-up           %10.2fx",
+                (double) perQuestion / joined));
+        return sb.toString();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int fetchAll(final Database db, final boolean joined) {
+        int total = 0;
+        for (final Discipline dis : Discipline.values()) {
+            final List<Question> list = joined
+                    ? db.getQuestions(Language.es_ES, null, dis)
+                    : db.getQuestionsPerAnswerQuery(Language.es_ES, null, dis);
+            if (list != null) total += list.size();
+        }
+        return total;
+    }
+
+    /**
+     * Appends the synthetic questions after the seeded ones, spread over every
+     * difficulty and discipline.
+     */
+    private static void populate(final Database db, final int nQuestions) {
+        int answer = db.queryFirst("SELECT MAX(pkid) AS m FROM answers;",
+                RowMapper.intColumn("m"));
+        int question = db.queryFirst("SELECT MAX(pkid) AS m FROM questions;",
+                RowMapper.intColumn("m"));
+
+        db.execute("BEGIN;");
+        for (int i = 0; i < nQuestions; i++) {
+            question += 1;
+            db.execute("INSERT INTO 'questions' ('pkid', 'statement', 'language', "
+                    + "'difficulty', 'discipline') VALUES (" + question
+                    + ", 'Synthetic question " + i + "?', 1, " + ((i % 3) + 1)
+                    + ", " + ((i % Discipline.values().length) + 1) + ");");
+            for (int j = 0; j < Question.MAX_ANSWERS; j++) {
+                answer += 1;
+                db.execute("INSERT INTO 'answers' ('pkid', 'text') VALUES ("
+                        + answer + ", 'Answer " + j + " of " + i + "');");
+                db.execute("INSERT INTO 'ans_que' ('answer', 'question', 'right') "
+                        + "VALUES (" + answer + ", " + question + ", "
+                        + ((j == (i % Question.MAX_ANSWERS)) ? 1 : 0) + ");");
+            }
+        }
+        db.execute("COMMIT;");
+    }
+}
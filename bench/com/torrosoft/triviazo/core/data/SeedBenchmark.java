@@ -0,0 +1,120 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.File;
+
+/**
+ * Times the database seed ({@link Database#onCreate()}) as a single batch
+ * against one autocommit statement at a time, which is how it used to run.
+ * <p>
+ * On desktop run {@link #main(String[])}, it also times the cold start of a
+ * brand new database file. On Android call {@link #run(Database, int)} with
+ * a {@link DatabaseAndroid} from the launcher.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class SeedBenchmark {
+    private static final int DEFAULT_ITERATIONS = 3;
+
+    private SeedBenchmark() {}
+
+    /**
+     * Desktop entry point. Arguments: [iterations].
+     */
+    public static void main(final String[] args) {
+        final int iterations = (args.length > 0) ? Integer.parseInt(args[0])
+                : DEFAULT_ITERATIONS;
+
+        // Never touch the player's database
+        Database.database_name = "triviazo-bench";
+        final File file = new File(Database.database_name + ".sqlite");
+        if (file.exists() && !file.delete()) {
+            throw new IllegalStateException("Can't delete " + file);
+        }
+
+        final long start = System.nanoTime();
+        final Database db = new DatabaseDesktop();
+        final long coldStart = System.nanoTime() - start;
+
+        System.out.println(String.format("DatabaseDesktop cold start %10.2f ms",
+                coldStart / 1e6));
+        System.out.println(run(db, iterations));
+    }
+
+    /**
+     * Reseeds the database with both strategies.
+     * 
+     * @param db
+     *            An already created database.
+     * @param iterations
+     *            Measured seeds per strategy.
+     * @return The report.
+     */
+    public static String run(final Database db, final int iterations) {
+        final Database autoCommit = new AutoCommitDatabase(db);
+
+        long single = 0;
+        long batched = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            autoCommit.onCreate();
+            single += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            db.onCreate();
+            batched += System.nanoTime() - start;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(db.getClass().getSimpleName()).append(" seed\n");
+        sb.append(String.format("  autocommit per statement %10.2f ms%n",
+                single / 1e6 / iterations));
+        sb.append(String.format("  single batch             %10.2f ms%n",
+                batched / 1e6 / iterations));
+        sb.append(String.format("  speed-up                 %10.2fx",
+                (double) single / batched));
+        return sb.toString();
+    }
+
+    /**
+     * Runs every batched statement on its own, in autocommit mode.
+     */
+    private static final class AutoCommitDatabase extends DelegatingDatabase {
+        AutoCommitDatabase(final Database pDb) {
+            super(pDb);
+        }
+
+        @Override
+        public void beginBatch() {}
+
+        @Override
+        public void addBatch(final String sql, final Object... args) {
+            if (args.length == 0) db.execute(sql);
+            else db.execute(sql, args);
+        }
+
+        @Override
+        public void commitBatch() {}
+
+        @Override
+        public void rollbackBatch() {}
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.torrosoft.triviazo.core.GameEngine;
+import com.torrosoft.triviazo.core.GameSession;
+import com.torrosoft.triviazo.core.data.pack.BinaryQuestionPack;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+
+/**
+ * Replays a {@link GameSession} without the UI, for instance the one attached
+ * to a bug report: it prints the deck, the answers as they were shown, the
+ * answer given to each question and when, and the score of the replay.
+ * <p>
+ * Arguments: &lt;encoded session&gt; [binary question pack]. Without a pack
+ * the questions are read from the database of the working directory.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class SessionReplay {
+    private SessionReplay() {}
+
+    /**
+     * Entry point.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SessionReplay <session> [pack]");
+            System.exit(2);
+        }
+
+        final GameSession session = GameSession.decode(args[0]);
+        final QuestionSource source = (args.length > 1) ? new BinaryQuestionPack(
+                new File(args[1])) : new DatabaseDesktop();
+        System.out.println(replay(session, new QuestionIndex(source)));
+    }
+
+    /**
+     * @return The report of the session.
+     */
+    public static String replay(final GameSession session,
+            final QuestionIndex index) {
+        final int[] deck = session.deal(index);
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Seed ").append(session.getSeed()).append(", ")
+                .append(session.getConfig().getGameMode().getName())
+                .append(", ").append(deck.length).append(" questions\n");
+
+        int given = 0;
+        for (int i = 0; i < deck.length; i++) {
+            final Question que = index.get(deck[i]);
+            final int[] order = session.getAnswerOrder(i);
+            sb.append(String.format("%3d [%s] %s%n", i + 1, que.getPkid(),
+                    que.getStatement()));
+            for (int slot = 0; slot < order.length; slot++) {
+                final int answer = order[slot];
+                sb.append("      ").append(answer == que.getRight() ? '*' : ' ')
+                        .append(que.getAnswers()[answer]).append('\n');
+            }
+
+            if ((given < session.getAnswerCount())
+                    && (session.getAnswerPosition(given) == i)) {
+                final int answer = session.getAnswer(given);
+                sb.append(String.format("      -> %s (%s) at %.1f s%n",
+                        que.getAnswers()[answer],
+                        answer == que.getRight() ? "right" : "wrong",
+                        session.getAnswerTime(given) / 1000F));
+                given += 1;
+            }
+        }
+
+        final GameEngine engine = session.replay(index);
+        sb.append(engine.getCorrect()).append(" right, ")
+                .append(engine.getIncorrect()).append(" wrong, score ")
+                .append(engine.getScore());
+        if (session.getDuration() >= 0) {
+            sb.append(String.format(", %.1f s", session.getDuration() / 1000F));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.screens;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.torrosoft.triviazo.TriviazoGame;
+import com.torrosoft.triviazo.core.enums.GameMode;
+
+/**
+ * Goes from screen to screen, one each frame, to check that the screens of
+ * the {@link ScreenRegistry} don't leak: after the first round the heap and
+ * the native memory (the textures, the unsafe buffers of the batches and the
+ * assets loaded) must stay flat. Every {@link #SAMPLE_EVERY} navigations
+ * they are measured, after a garbage collection, and the last sample is
+ * compared with the first one.
+ * <p>
+ * It needs a window, so it runs from the desktop launcher instead of the
+ * game:
+ * 
+ * <pre>
+ * new LwjglApplication(new NavigationSoak(new TriviazoGame(
+ *         new DatabaseDesktop()), 10000), config);
+ * </pre>
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class NavigationSoak implements ApplicationListener {
+    private static final int SAMPLE_EVERY = 1000;
+
+    /**
+     * The heap may grow this fraction between the first and the last sample.
+     */
+    private static final double HEAP_TOLERANCE = 0.1;
+
+    /**
+     * The way through the screens, the game screen is the one of the game
+     * mode, which changes every round.
+     */
+    private static final Class<?>[] ROUTE = { MenuScreen.class,
+            GameModeScreen.class, DisciplinesScreen.class,
+            LastConfigScreen.class, GameScreen.class, MenuScreen.class,
+            HallOfFameScreen.class, MenuScreen.class, PreferencesScreen.class,
+            MenuScreen.class, AboutScreen.class };
+    private static final GameMode[] MODES = GameMode.values();
+
+    private final TriviazoGame game;
+    private final int navigations;
+    private int done = 0;
+    private long firstHeap = -1;
+    private String firstNative;
+
+    /**
+     * Default ctor.
+     * 
+     * @param pGame
+     *            The game to go through.
+     * @param pNavigations
+     *            The screen changes to do before exiting.
+     */
+    public NavigationSoak(final TriviazoGame pGame, final int pNavigations) {
+        game = pGame;
+        navigations = pNavigations;
+    }
+
+    @Override
+    public void create() {
+        game.create();
+    }
+
+    @Override
+    public void resize(final int width, final int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void render() {
+        game.render();
+        if (done == navigations) return;
+
+        navigate();
+        if (done == 1) {
+            // Shown by the game, it's not in the route
+            game.getScreens().dispose(SplashScreen.class);
+        }
+        if ((done % SAMPLE_EVERY) == 0) sample();
+        if (done == navigations) Gdx.app.exit();
+    }
+
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        game.dispose();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void navigate() {
+        final int round = done / ROUTE.length;
+        Class<?> next = ROUTE[done % ROUTE.length];
+        if (next == GameModeScreen.class) {
+            AbstractScreen.gameConfig.setGameMode(MODES[round % MODES.length]);
+        } else if (next == GameScreen.class) {
+            next = gameScreen(AbstractScreen.gameConfig.getGameMode());
+        }
+
+        game.setScreen((Class<? extends AbstractScreen>) next);
+        done++;
+    }
+
+    private static Class<? extends GameScreen> gameScreen(final GameMode mode) {
+        if (mode == GameMode.INTELLECTUS_MACHINA) {
+            return IntellectusMachina.class;
+        }
+        return TimedGameScreen.class;
+    }
+
+    private void sample() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            runtime.gc();
+        }
+        final long heap = runtime.totalMemory() - runtime.freeMemory();
+        final String natives = Texture.getNumManagedTextures() + " textures, "
+                + BufferUtils.getAllocatedBytesUnsafe() + " B unsafe, "
+                + game.getImageManager().getLoadedCount() + " assets, "
+                + game.getScreens().size() + " screens";
+        System.out.println(done + " navigations: " + (heap / 1024)
+                + " KB heap, " + natives);
+
+        if (firstHeap < 0) {
+            firstHeap = heap;
+            firstNative = natives;
+        } else if (done == navigations) {
+            final boolean flat = (heap <= (firstHeap * (1 + HEAP_TOLERANCE)))
+                    && natives.equals(firstNative);
+            System.out.println(flat ? "Flat" : "Growing, from "
+                    + (firstHeap / 1024) + " KB heap, " + firstNative);
+        }
+    }
+}
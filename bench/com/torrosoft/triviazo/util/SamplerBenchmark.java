@@ -0,0 +1,132 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times {@link Sampler} against the rejection sampling the game screen used
+ * to do (draw, scan the questions already picked, draw again on a repeat),
+ * for several pool sizes, with a normal game (20 questions) and with a whole
+ * pool, as in Tempus fugit.
+ * <p>
+ * Run {@link #main(String[])}. The rejection sampling of whole pools is
+ * quadratic, so it's only timed up to {@link #MAX_REJECTION_POOL}.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class SamplerBenchmark {
+    private static final int[] POOL_SIZES = { 100, 1000, 10000, 100000, 1000000 };
+    private static final int GAME_QUESTIONS = 20;
+    private static final int MAX_REJECTION_POOL = 10000;
+    private static final long MIN_NANOS = 200000000L;
+
+    private SamplerBenchmark() {}
+
+    /**
+     * Entry point, without arguments.
+     */
+    public static void main(final String[] args) {
+        final Random rnd = new Random(42);
+        System.out.println(String.format("%10s %10s %16s %16s %16s", "pool", "k",
+                "rejection us", "shuffle us", "sample us"));
+        for (final int size : POOL_SIZES) {
+            report(size, GAME_QUESTIONS, rnd);
+            report(size, size, rnd);
+        }
+    }
+
+    private static void report(final int size, final int k, final Random rnd) {
+        final int[] pool = new int[size];
+        for (int i = 0; i < size; i++) {
+            pool[i] = i;
+        }
+
+        final double rejection = (k < size) || (size <= MAX_REJECTION_POOL) ?
+                time(new Runnable() {
+                    @Override
+                    public void run() {
+                        check(rejection(pool, k, rnd), Math.min(k, size));
+                    }
+                }) : Double.NaN;
+        final double shuffle = time(new Runnable() {
+            @Override
+            public void run() {
+                final int n = Sampler.shuffle(pool, k, rnd);
+                if (n != Math.min(k, size)) throw new IllegalStateException();
+            }
+        });
+        final double sample = time(new Runnable() {
+            @Override
+            public void run() {
+                check(Sampler.sample(size, k, rnd), Math.min(k, size));
+            }
+        });
+
+        System.out.println(String.format("%10d %10d %16.2f %16.2f %16.2f", size,
+                k, rejection, shuffle, sample));
+    }
+
+    /**
+     * Repeats the task for at least {@link #MIN_NANOS}, after a warm up.
+     * 
+     * @return Microseconds per run.
+     */
+    private static double time(final Runnable task) {
+        for (int i = 0; i < 3; i++) {
+            task.run();
+        }
+
+        int runs = 0;
+        final long start = System.nanoTime();
+        long elapsed;
+        do {
+            task.run();
+            runs += 1;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_NANOS);
+        return elapsed / 1e3 / runs;
+    }
+
+    /**
+     * The former loop, without its reseeding.
+     */
+    private static int[] rejection(final int[] pool, final int k,
+            final Random rnd) {
+        final List<Integer> picked = new ArrayList<Integer>();
+        while (picked.size() < k) {
+            final Integer value = pool[rnd.nextInt(pool.length)];
+            if (!picked.contains(value)) picked.add(value);
+        }
+
+        final int[] res = new int[picked.size()];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = picked.get(i);
+        }
+        return res;
+    }
+
+    private static void check(final int[] sample, final int expected) {
+        if (sample.length != expected) throw new IllegalStateException(
+                "Expected " + expected + " values, got " + sample.length);
+    }
+}
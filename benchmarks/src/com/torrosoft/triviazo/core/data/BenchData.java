@@ -0,0 +1,126 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Generated data for the benchmarks: SQLite files with synthetic questions
+ * and synthetic question banks in memory.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+final class BenchData {
+    private static final int EASY_TO_HARD = 3;
+
+    private BenchData() {}
+
+    /**
+     * Creates a database in the working directory, seeded as the game does
+     * plus the synthetic questions.
+     * 
+     * @param name
+     *            The name of the file, without extension.
+     * @param nQuestions
+     *            Number of synthetic questions.
+     */
+    static Database createDatabase(final String name, final int nQuestions) {
+        Database.database_name = name;
+        deleteDatabase(name);
+        final Database db = new DatabaseDesktop();
+        populate(db, nQuestions);
+        return db;
+    }
+
+    static void deleteDatabase(final String name) {
+        for (final String suffix : new String[] { ".sqlite", ".sqlite-wal",
+                ".sqlite-shm" }) {
+            final File file = new File(name + suffix);
+            if (file.exists() && !file.delete()) {
+                throw new IllegalStateException("Can't delete " + file);
+            }
+        }
+    }
+
+    /**
+     * Appends the synthetic questions after the seeded ones, spread over every
+     * difficulty and discipline.
+     */
+    private static void populate(final Database db, final int nQuestions) {
+        int answer = db.queryFirst("SELECT MAX(pkid) AS m FROM answers;",
+                RowMapper.intColumn("m"));
+        int question = db.queryFirst("SELECT MAX(pkid) AS m FROM questions;",
+                RowMapper.intColumn("m"));
+
+        db.beginBatch();
+        for (int i = 0; i < nQuestions; i++) {
+            question += 1;
+            db.addBatch("INSERT INTO 'questions' ('pkid', 'statement', 'language', "
+                    + "'difficulty', 'discipline') VALUES (?, ?, ?, ?, ?);",
+                    question, "Synthetic question " + i + "?",
+                    Language.es_ES.getCode(), (i % EASY_TO_HARD) + 1,
+                    (i % Discipline.values().length) + 1);
+            for (int j = 0; j < Question.MAX_ANSWERS; j++) {
+                answer += 1;
+                db.addBatch("INSERT INTO 'answers' ('pkid', 'text') VALUES (?, ?);",
+                        answer, "Answer " + j + " of " + i);
+                db.addBatch("INSERT INTO 'ans_que' ('answer', 'question', 'right') "
+                        + "VALUES (?, ?, ?);", answer, question,
+                        (j == (i % Question.MAX_ANSWERS)) ? 1 : 0);
+            }
+        }
+        db.commitBatch();
+    }
+
+    /**
+     * A bank in memory with the questions spread over every difficulty and
+     * discipline, with the right answer in any position.
+     * 
+     * @param perDiscipline
+     *            Number of questions of each discipline.
+     */
+    static QuestionIndex syntheticIndex(final int perDiscipline) {
+        return new QuestionIndex(new QuestionSource() {
+            @Override
+            public List<Question> getQuestions(final Language lang,
+                    final Difficulty diff, final Discipline dis) {
+                final List<Question> res = new ArrayList<Question>();
+                int pkid = 0;
+                for (final Discipline d : Discipline.values()) {
+                    for (int i = 0; i < perDiscipline; i++) {
+                        pkid += 1;
+                        res.add(new Question(String.valueOf(pkid), "Question "
+                                + pkid, new String[] { "A", "B", "C", "D" },
+                                pkid % Question.MAX_ANSWERS, Language.es_ES,
+                                Difficulty.values()[i % EASY_TO_HARD], d));
+                    }
+                }
+                return res;
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.torrosoft.triviazo.core.CurrentGameConfig;
+import com.torrosoft.triviazo.core.GameSession;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+import com.torrosoft.triviazo.util.SplitMix64;
+
+/**
+ * Deck building driven by a {@link CurrentGameConfig}: every discipline and
+ * difficulty, or a few disciplines of one difficulty, and the whole deal of a
+ * {@link GameSession} (the deck plus the order of the answers), which is what
+ * a game screen does when it starts.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBuildingBench {
+    @Param({ "100", "5000" })
+    public int perDiscipline;
+
+    @Param({ "10", "50" })
+    public int deckSize;
+
+    private QuestionIndex index;
+    private DeckBuilder builder;
+    private final CurrentGameConfig every = new CurrentGameConfig();
+    private final CurrentGameConfig few = new CurrentGameConfig();
+    private final SplitMix64 rnd = new SplitMix64(42);
+
+    @Setup
+    public void setUp() {
+        index = BenchData.syntheticIndex(perDiscipline);
+        builder = new DeckBuilder(index);
+
+        every.setNumQuestions(deckSize);
+        few.setNumQuestions(deckSize);
+        few.setDifQuestions(Difficulty.HARD);
+        for (final Discipline dis : Discipline.values()) {
+            few.getDisciplines().put(dis, dis.ordinal() < 3);
+        }
+    }
+
+    @Benchmark
+    public int[] everyDiscipline() {
+        return builder.build(Language.es_ES, every, rnd);
+    }
+
+    @Benchmark
+    public int[] fewDisciplines() {
+        return builder.build(Language.es_ES, few, rnd);
+    }
+
+    @Benchmark
+    public int[] sessionDeal() {
+        return new GameSession(rnd.nextLong(), Language.es_ES, every)
+                .deal(index);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * {@link Database#getQuestions(Language, Difficulty, Discipline)} on a SQLite
+ * file with generated questions: a whole discipline, as the question index
+ * loads them, and a single difficulty of a discipline.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetQuestionsBench {
+    private static final Discipline[] DISCIPLINES = Discipline.values();
+
+    @Param({ "1000", "20000" })
+    public int questions;
+
+    private String name;
+    private Database db;
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        name = "triviazo-jmh-" + questions;
+        db = BenchData.createDatabase(name, questions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchData.deleteDatabase(name);
+    }
+
+    @Benchmark
+    public List<Question> discipline() {
+        next = (next + 1) % DISCIPLINES.length;
+        return db.getQuestions(Language.es_ES, null, DISCIPLINES[next]);
+    }
+
+    @Benchmark
+    public List<Question> disciplineAndDifficulty() {
+        next = (next + 1) % DISCIPLINES.length;
+        return db.getQuestions(Language.es_ES, Difficulty.NORMAL,
+                DISCIPLINES[next]);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link LRUCache#get(Object)} and {@link LRUCache#add(Object, Object)} alone
+ * and under contention: three threads reading and one adding, about a fifth
+ * of the keys miss and evict. The contended group is run once as is and once
+ * locked around every call (as the callers had to before the cache was thread
+ * safe), and four threads only read in the readers group.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LRUCacheBench {
+    private static final int CAPACITY = 16;
+    private static final int KEYS = 20;
+
+    private final LRUCache<Integer, String> cache = new LRUCache<Integer, String>(
+            CAPACITY);
+    private final Integer[] keys = new Integer[KEYS];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i;
+            cache.add(keys[i], "Value " + i);
+        }
+    }
+
+    /**
+     * The position of each thread in the keys.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = 0;
+
+        private int next() {
+            next = (next + 7) % KEYS;
+            return next;
+        }
+    }
+
+    @Benchmark
+    @Group("alone")
+    public String getAlone(final Cursor cursor) {
+        return cache.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("readers")
+    @GroupThreads(4)
+    public String getReaders(final Cursor cursor) {
+        return cache.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public String get(final Cursor cursor) {
+        return cache.get(keys[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void add(final Cursor cursor) {
+        final Integer key = keys[cursor.next()];
+        cache.add(key, "Value " + key);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public String getLocked(final Cursor cursor) {
+        synchronized (cache) {
+            return cache.get(keys[cursor.next()]);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void addLocked(final Cursor cursor) {
+        final Integer key = keys[cursor.next()];
+        synchronized (cache) {
+            cache.add(key, "Value " + key);
+        }
+    }
+}
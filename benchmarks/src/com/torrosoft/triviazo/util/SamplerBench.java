@@ -0,0 +1,76 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The question sampling of the game screens: k ids out of a pool, with the
+ * partial shuffle of a pool array and with the sparse sampler.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplerBench {
+    @Param({ "100", "10000", "1000000" })
+    public int poolSize;
+
+    @Param({ "10" })
+    public int k;
+
+    private int[] pool;
+    private final SplitMix64 rnd = new SplitMix64(42);
+
+    @Setup
+    public void setUp() {
+        pool = new int[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            pool[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int[] shuffle() {
+        Sampler.shuffle(pool, k, rnd);
+        return pool;
+    }
+
+    @Benchmark
+    public int[] sample() {
+        return Sampler.sample(poolSize, k, rnd);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+
+/**
+ * The line wrapping of the game screens with the default font of libGDX: a
+ * statement 720 pixels wide and an answer 340 pixels wide, with texts from
+ * the question bank. It compares the former character-count formatStr (90
+ * and 40 chars), the glyph-width {@link LineBreaker} and a hit of the
+ * {@link TextLayoutCache}. Run it with -prof gc to see the allocations.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextWrapBench {
+    private static final String FONT = "com/badlogic/gdx/utils/arial-15.fnt";
+    private static final String SHORT = "¿Qué significa MP3?";
+    private static final String LONG = "El politólogo Max Weber hizo una "
+            + "definición del Estado que ha sido fundamental en el estudio de "
+            + "la ciencia política moderna, ¿que definición es?";
+    private static final String ANSWER = "Conjunto de instituciones que poseen "
+            + "la autoridad y potestad para establecer las normas que regulan "
+            + "una sociedad";
+
+    /**
+     * A short statement (not wrapped), a long one or an answer.
+     */
+    @Param({ "short", "long", "answer" })
+    public String text;
+
+    private String str;
+    private int nChars;
+    private float width;
+    private LineBreaker breaker;
+    private TextLayoutCache cache;
+
+    @Setup
+    public void setUp() {
+        if ("answer".equals(text)) {
+            str = ANSWER;
+            nChars = 40;
+            width = 340;
+        } else {
+            str = "short".equals(text) ? SHORT : LONG;
+            nChars = 90;
+            width = 720;
+        }
+
+        final BitmapFontData data = new BitmapFontData(new FileHandle(FONT,
+                FileType.Classpath) {}, false);
+        breaker = new LineBreaker(data);
+        cache = new TextLayoutCache(data, 16);
+    }
+
+    @Benchmark
+    public String formatStr() {
+        return formatStr(str, nChars);
+    }
+
+    @Benchmark
+    public int breakLines() {
+        return breaker.breakLines(str, width);
+    }
+
+    @Benchmark
+    public String wrap() {
+        return breaker.wrap(str, width);
+    }
+
+    @Benchmark
+    public String cached() {
+        return cache.get(1, 0, width, str);
+    }
+
+    /**
+     * The former wrapping of GameScreen, by number of chars.
+     */
+    private static String formatStr(final String str, final int nChars) {
+        final StringBuilder sb = new StringBuilder(str);
+        final int ite = sb.length() / nChars;
+
+        if (ite > 0) {
+            for (int i = 0; i < ite; i++) {
+                int pos = (i + 1) * nChars;
+                while (!sb.substring(pos, pos + 1).equals(" ")) {
+                    --pos;
+                }
+                sb.insert(pos, '\n');
+                sb.delete(pos + 1, pos + 2); // Deletes the space
+            }
+        } else return str;
+
+        return sb.toString();
+    }
+}
@@ -20,12 +20,28 @@ package com.torrosoft.triviazo;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.torrosoft.triviazo.core.GameSession;
+import com.torrosoft.triviazo.core.data.AsyncDatabase;
+import com.torrosoft.triviazo.core.data.AsyncDatabase.Callback;
+import com.torrosoft.triviazo.core.data.AsyncDatabase.Job;
 import com.torrosoft.triviazo.core.data.Database;
+import com.torrosoft.triviazo.core.data.QuestionIndex;
+import com.torrosoft.triviazo.core.data.QuestionSource;
+import com.torrosoft.triviazo.core.data.ResultLeakTracker;
+import com.torrosoft.triviazo.screens.AbstractScreen;
 import com.torrosoft.triviazo.screens.MenuScreen;
+import com.torrosoft.triviazo.screens.ScreenRegistry;
 import com.torrosoft.triviazo.screens.SplashScreen;
+import com.torrosoft.triviazo.services.images.ImageManager;
 import com.torrosoft.triviazo.services.music.MusicManager;
 import com.torrosoft.triviazo.services.music.SoundManager;
 import com.torrosoft.triviazo.services.preferences.PreferencesManager;
+import com.torrosoft.triviazo.services.ui.UiManager;
+import com.torrosoft.triviazo.util.TextLayoutCache;
 
 /**
  * The game's main class, called as application events are fired. It centralizes
@@ -39,17 +55,64 @@ public class TriviazoGame extends Game {
     public static final String VERSION = " - v0.7 ALPHA - ";
     public static final boolean DEBUG_MODE = false;
     public static final boolean FULL_DEBUG_MODE = false;
+    private static final int TEXT_LAYOUT_ENTRIES = 1024;
 
     /* SERVICES */
     private MusicManager musicManager;
     private SoundManager soundManager;
     private PreferencesManager preferencesManager;
+    private ImageManager imageManager;
+    private UiManager uiManager;
+
+    /**
+     * The screens already shown, to show them again.
+     */
+    private ScreenRegistry screens;
 
     /**
      * The game database.
      */
     private Database database;
 
+    /**
+     * Runs the database calls out of the render thread.
+     */
+    private AsyncDatabase asyncDatabase;
+
+    /**
+     * Where the questions come from, the database if it's not set.
+     */
+    private QuestionSource questionSource;
+
+    /**
+     * The question bank in memory, loaded once from the question source.
+     */
+    private QuestionIndex questionIndex;
+
+    /**
+     * The last game played, to attach it to a bug report.
+     */
+    private GameSession lastSession;
+
+    /**
+     * Who is waiting for the question index while it's being loaded.
+     */
+    private final Array<Callback<QuestionIndex>> questionIndexWaiters =
+            new Array<Callback<QuestionIndex>>();
+
+    /**
+     * The wrapped texts of the questions, by font file and scale. They
+     * outlive the screens, so each question is wrapped once.
+     */
+    private final ObjectMap<String, TextLayoutCache> textLayouts =
+            new ObjectMap<String, TextLayoutCache>();
+
+    /**
+     * When the frame which changed the screen began, 0 if there is no screen
+     * change being measured.
+     */
+    private long transitionStart;
+
     /**
      * Default constructor.
      */
@@ -71,6 +134,16 @@ public class TriviazoGame extends Game {
         soundManager = new SoundManager();
         soundManager.setVolume(preferencesManager.getVolume());
         soundManager.setEnabled(preferencesManager.isSoundEnabled());
+        // The splash plays the first one right away
+        soundManager.preload();
+
+        imageManager = new ImageManager();
+        uiManager = new UiManager();
+        screens = new ScreenRegistry(this);
+
+        asyncDatabase = new AsyncDatabase(database);
+        // The questions don't change during the session
+        loadQuestionIndex(null);
 
         // Mouse hidden
         Gdx.input.setCursorCatched(false);
@@ -85,8 +158,8 @@ public class TriviazoGame extends Game {
         super.resize(width, height);
         if (getScreen() == null) {
             if (DEBUG_MODE) {
-                setScreen(new MenuScreen(this));
-            } else setScreen(new SplashScreen(this)); // new SplashScreen(this)
+                setScreen(MenuScreen.class);
+            } else setScreen(SplashScreen.class);
         }
     }
 
@@ -97,9 +170,26 @@ public class TriviazoGame extends Game {
     @Override
     public final void dispose() {
         super.dispose();
+        screens.dispose();
+        if (DEBUG_MODE) {
+            Gdx.app.debug("dispose", "Sounds: " + soundManager.getHits()
+                    + " hits, " + soundManager.getMisses() + " misses, "
+                    + (soundManager.getDecodeNanos() / 1000000L)
+                    + " ms decoding, "
+                    + (soundManager.getStallNanos() / 1000000L)
+                    + " ms waited");
+        }
         // It's necessary dispose some native methods.
         musicManager.dispose();
         soundManager.dispose();
+        imageManager.dispose();
+        uiManager.dispose();
+        asyncDatabase.dispose();
+        preferencesManager.dispose();
+        if (DEBUG_MODE && (ResultLeakTracker.getOpenCount() > 0)) {
+            Gdx.app.error("dispose", ResultLeakTracker.getOpenCount()
+                    + " database results were never closed");
+        }
     }
 
     /**
@@ -112,6 +202,7 @@ public class TriviazoGame extends Game {
     @Override
     public final void pause() {
         super.pause();
+        preferencesManager.flush();
     }
 
     /**
@@ -128,7 +219,30 @@ public class TriviazoGame extends Game {
      */
     @Override
     public final void render() {
+        final Screen current = getScreen();
+        final long frameStart = DEBUG_MODE ? System.nanoTime() : 0L;
+
+        imageManager.update();
+        musicManager.update(Gdx.graphics.getDeltaTime());
         super.render();
+
+        if (DEBUG_MODE) logTransition(current, frameStart);
+    }
+
+    /**
+     * Logs how long a screen change takes: from the frame where the new
+     * screen is built to the end of its first frame, so the loads it does
+     * on show() and on its first render are counted.
+     */
+    private void logTransition(final Screen previous, final long frameStart) {
+        if (transitionStart != 0L) {
+            Gdx.app.log("transition", getScreen().getClass().getSimpleName()
+                    + " " + ((System.nanoTime() - transitionStart) / 1000000L)
+                    + " ms");
+            transitionStart = 0L;
+        } else if (getScreen() != previous) {
+            transitionStart = frameStart;
+        }
     }
 
     /**
@@ -139,6 +253,21 @@ public class TriviazoGame extends Game {
         super.setScreen(screen);
     }
 
+    /**
+     * Switch to a screen of the {@link ScreenRegistry}, it's created the first
+     * time.
+     * 
+     * @param type
+     *            The class of the screen.
+     */
+    public final void setScreen(final Class<? extends AbstractScreen> type) {
+        setScreen(screens.get(type));
+    }
+
+    public final ScreenRegistry getScreens() {
+        return screens;
+    }
+
     public final PreferencesManager getPreferencesManager() {
         return preferencesManager;
     }
@@ -156,6 +285,17 @@ public class TriviazoGame extends Game {
         soundManager = pSoundManager;
     }
 
+    public final ImageManager getImageManager() {
+        return imageManager;
+    }
+
+    /**
+     * The skin, the batch and the fonts of the screens.
+     */
+    public final UiManager getUiManager() {
+        return uiManager;
+    }
+
     public final MusicManager getMusicManager() {
         return musicManager;
     }
@@ -171,4 +311,97 @@ public class TriviazoGame extends Game {
     public final void setDatabase(final Database pDatabase) {
         database = pDatabase;
     }
+
+    /**
+     * The screens must use the database through this object, so they never
+     * block a frame.
+     */
+    public final AsyncDatabase getAsyncDatabase() {
+        return asyncDatabase;
+    }
+
+    public final GameSession getLastSession() {
+        return lastSession;
+    }
+
+    public final void setLastSession(final GameSession pLastSession) {
+        lastSession = pLastSession;
+    }
+
+    public final QuestionSource getQuestionSource() {
+        return (questionSource != null) ? questionSource : database;
+    }
+
+    /**
+     * Sets where the questions come from, for instance a
+     * {@link com.torrosoft.triviazo.core.data.pack.BinaryQuestionPack}. The
+     * scores are always kept in the database.
+     */
+    public final void setQuestionSource(final QuestionSource pQuestionSource) {
+        questionSource = pQuestionSource;
+        questionIndex = null;
+        textLayouts.clear(); // The ids of the questions change
+    }
+
+    /**
+     * Gets the wrapped texts of a font. The fonts loaded from the same file
+     * with the same scale share them.
+     */
+    public final TextLayoutCache getTextLayouts(final BitmapFont font) {
+        final BitmapFontData data = font.getData();
+        final String key = ((data.getFontFile() != null) ? data.getFontFile()
+                .path() : String.valueOf(System.identityHashCode(data)))
+                + '@' + data.scaleX;
+        TextLayoutCache layouts = textLayouts.get(key);
+        if (layouts == null) {
+            layouts = new TextLayoutCache(data, TEXT_LAYOUT_ENTRIES);
+            textLayouts.put(key, layouts);
+        }
+        return layouts;
+    }
+
+    /**
+     * Gets the question index, loading it out of the render thread the first
+     * time.
+     * 
+     * @param callback
+     *            Gets the index on the render thread, right away if it's
+     *            already loaded. It may be null.
+     */
+    public final void loadQuestionIndex(final Callback<QuestionIndex> callback) {
+        if (questionIndex != null) {
+            if (callback != null) callback.onResult(questionIndex);
+            return;
+        }
+
+        final boolean loading = (questionIndexWaiters.size > 0);
+        questionIndexWaiters.add(callback);
+        if (loading) return;
+
+        final QuestionSource source = questionSource;
+        asyncDatabase.read(new Job<QuestionIndex>() {
+            @Override
+            public QuestionIndex run(final Database db) {
+                return new QuestionIndex((source != null) ? source : db);
+            }
+        }, new Callback<QuestionIndex>() {
+            @Override
+            public void onResult(final QuestionIndex result) {
+                if (source == questionSource) questionIndex = result;
+                for (final Callback<QuestionIndex> waiter : questionIndexWaiters) {
+                    if (waiter != null) waiter.onResult(result);
+                }
+                questionIndexWaiters.clear();
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                for (final Callback<QuestionIndex> waiter : questionIndexWaiters) {
+                    if (waiter != null) waiter.onError(error);
+                    else super.onError(error);
+                }
+                questionIndexWaiters.clear();
+            }
+        });
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core;
+
+/**
+ * The clock of a game, moved forward by the render thread with the time of
+ * each frame. It only runs while the game is on the screen: it stops on
+ * pause, and the frame after the resume, which spans the whole pause on some
+ * backends, isn't counted.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class GameClock {
+    private static final float NANOS_PER_SECOND = 1000000000F;
+
+    private long nanos = 0;
+    private boolean paused = false;
+    private boolean resumed = false;
+
+    /**
+     * Moves the clock forward, unless it's paused.
+     * 
+     * @param deltaSeconds
+     *            The time of the frame.
+     * @return The nanoseconds counted.
+     */
+    public long advance(final float deltaSeconds) {
+        if (paused || (deltaSeconds <= 0F)) return 0L;
+        if (resumed) {
+            resumed = false;
+            return 0L;
+        }
+
+        final long delta = (long) (deltaSeconds * NANOS_PER_SECOND);
+        nanos += delta;
+        return delta;
+    }
+
+    public void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        if (paused) resumed = true;
+        paused = false;
+    }
+
+    /**
+     * Back to 0 and running.
+     */
+    public void reset() {
+        nanos = 0L;
+        paused = false;
+        resumed = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * @return The time counted since the last reset.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return The time counted since the last reset, in milliseconds as the
+     *         {@link GameSession} records it.
+     */
+    public long getMillis() {
+        return nanos / 1000000L;
+    }
+}
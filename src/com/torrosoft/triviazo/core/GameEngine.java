@@ -0,0 +1,239 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core;
+
+import com.torrosoft.triviazo.core.data.QuestionIndex;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.GameMode;
+
+/**
+ * The rules of a game, without any UI: the deck, the score, the time budget
+ * of each question and how each {@link GameMode} ends. It's driven by
+ * {@link #answer(int, long)} and {@link #tick(long)} with the time elapsed
+ * since the start of the game, so the screens only draw its state and a
+ * simulation can play it as fast as the CPU allows.
+ * <ul>
+ * <li>Intellectus machina: no clock, the game ends with the deck.</li>
+ * <li>Tempus fugit: the game ends when the time of a question runs out.</li>
+ * <li>Vindicetis ex simius: a question whose time runs out counts as wrong
+ * and the next one comes.</li>
+ * </ul>
+ * The time budget shrinks one second per question answered, down to a
+ * minimum. The seconds of the clock are {@link #CLOCK_SECOND_NANOS} long.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class GameEngine {
+    /**
+     * Points won or lost per question in the timed modes.
+     */
+    public static final int QUESTION_VALUE = 50;
+
+    /**
+     * A second of the game clock, 0.9 real seconds as it has always ticked.
+     */
+    public static final long CLOCK_SECOND_NANOS = 900000000L;
+
+    private final GameMode gameMode;
+    private final QuestionIndex index;
+    private final int[] deck;
+
+    private final boolean timed;
+    private final int baseSeconds;
+    private final int minSeconds;
+
+    private int position = 0;
+    private int correct = 0;
+    private int incorrect = 0;
+    private boolean over;
+
+    private long elapsedNanos = 0;
+    private long deadlineNanos;
+
+    /**
+     * @param pGameMode
+     *            The game mode, it decides the rules.
+     * @param pIndex
+     *            The question bank.
+     * @param pDeck
+     *            The ids of the questions in the bank, in playing order. It's
+     *            not copied.
+     */
+    public GameEngine(final GameMode pGameMode, final QuestionIndex pIndex,
+            final int[] pDeck) {
+        gameMode = pGameMode;
+        index = pIndex;
+        deck = pDeck;
+
+        switch (gameMode) {
+            case TEMPUS_FUGIT:
+                timed = true;
+                baseSeconds = 15;
+                minSeconds = 5;
+                break;
+            case VINDICETIS_EX_SIMIUS:
+                timed = true;
+                baseSeconds = 10;
+                minSeconds = 4;
+                break;
+            default:
+                timed = false;
+                baseSeconds = 0;
+                minSeconds = 0;
+                break;
+        }
+
+        over = (deck.length == 0);
+        deadlineNanos = budgetNanos();
+    }
+
+    /**
+     * Answers the current question.
+     * 
+     * @param answer
+     *            The index of the answer in {@link Question#getAnswers()}.
+     * @param timestampNanos
+     *            Time since the start of the game. If the time of the
+     *            question has run out before, that's applied first and the
+     *            answer is ignored.
+     * @return True if the answer is right.
+     */
+    public final boolean answer(final int answer, final long timestampNanos) {
+        final int answered = position;
+        tick(timestampNanos - elapsedNanos);
+        if (over || (position != answered)) return false;
+
+        final boolean right = (getCurrent().getRight() == answer);
+        if (right) correct += 1;
+        else incorrect += 1;
+        next(elapsedNanos);
+        return right;
+    }
+
+    /**
+     * Moves the clock forward. In the timed modes the time of the question
+     * may run out, maybe more than once in a long tick. The time of the next
+     * question counts from the deadline, not from the end of the tick, so the
+     * result doesn't depend on how the time is split in ticks.
+     * 
+     * @param deltaNanos
+     *            The time since the last tick or answer.
+     */
+    public final void tick(final long deltaNanos) {
+        if (deltaNanos > 0) elapsedNanos += deltaNanos;
+        while (timed && !over && (elapsedNanos >= deadlineNanos)) {
+            if (gameMode == GameMode.TEMPUS_FUGIT) over = true;
+            else {
+                incorrect += 1;
+                next(deadlineNanos);
+            }
+        }
+    }
+
+    /**
+     * Goes to the next question, its time starts at the given instant.
+     */
+    private void next(final long startNanos) {
+        position += 1;
+        if (position >= deck.length) over = true;
+        deadlineNanos = startNanos + budgetNanos();
+    }
+
+    /**
+     * The time for the current question: the base seconds minus one per
+     * question answered after the first one, never below the minimum.
+     */
+    private long budgetNanos() {
+        if (!timed) return Long.MAX_VALUE;
+        final int seconds = (position == 0) ? baseSeconds : Math.max(
+                baseSeconds - position - 1, minSeconds);
+        return seconds * CLOCK_SECOND_NANOS;
+    }
+
+    /**
+     * @return The score: the final one for Intellectus machina (100 per right
+     *         answer minus 100 per wrong one, never below 0) and the current
+     *         one for the timed modes.
+     */
+    public final int getScore() {
+        if (!timed) return Math.max((correct - incorrect) * 100, 0);
+        return (correct - incorrect) * QUESTION_VALUE;
+    }
+
+    /**
+     * @return The seconds left for the current question, as the clock shows
+     *         them, or -1 if there is no clock.
+     */
+    public final int getSecondsLeft() {
+        if (!timed) return -1;
+        final long left = Math.max(deadlineNanos - elapsedNanos, 0);
+        return (int) ((left + CLOCK_SECOND_NANOS - 1) / CLOCK_SECOND_NANOS);
+    }
+
+    /**
+     * @return The current question, or null if the game is over.
+     */
+    public final Question getCurrent() {
+        return (position < deck.length) ? index.get(deck[position]) : null;
+    }
+
+    /**
+     * @return The id of the current question in the bank, or -1 if the game
+     *         is over.
+     */
+    public final int getCurrentId() {
+        return (position < deck.length) ? deck[position] : -1;
+    }
+
+    public final GameMode getGameMode() {
+        return gameMode;
+    }
+
+    /**
+     * @return The position of the current question in the deck.
+     */
+    public final int getPosition() {
+        return position;
+    }
+
+    public final int getDeckSize() {
+        return deck.length;
+    }
+
+    public final int getCorrect() {
+        return correct;
+    }
+
+    public final int getIncorrect() {
+        return incorrect;
+    }
+
+    public final long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public final boolean isTimed() {
+        return timed;
+    }
+
+    public final boolean isOver() {
+        return over;
+    }
+}
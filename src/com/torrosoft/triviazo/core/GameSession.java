@@ -0,0 +1,372 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.IntArray;
+import com.torrosoft.triviazo.core.data.DeckBuilder;
+import com.torrosoft.triviazo.core.data.QuestionIndex;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.core.enums.Language;
+import com.torrosoft.triviazo.util.Sampler;
+import com.torrosoft.triviazo.util.SplitMix64;
+
+/**
+ * A game session: a 64 bit seed and a configuration, which fully determine
+ * the deck and the order of the answers of each question, plus the answers
+ * given and when. It's encoded in a short string that can be attached to a
+ * bug report and replayed without the UI.
+ * <p>
+ * The deck comes from a {@link SplitMix64} split of the seed and the answer
+ * orders from another one, so the same seed gives the same game as long as
+ * the question bank is the same (its size is recorded to tell). The score
+ * comes from replaying the answers through a {@link GameEngine}.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class GameSession {
+    /**
+     * Version 3 writes the positions as ints and deals with the draws of
+     * SplittableRandom, the sessions of the older versions can't be replayed.
+     */
+    private static final int FORMAT_VERSION = 3;
+
+    private final long seed;
+    private final Language language;
+    private final GameMode gameMode;
+    private final Difficulty difficulty;
+    private final int disciplines;
+    private final int numQuestions;
+    private int bankSize = -1;
+
+    private int[] deck;
+    private int[][] answerOrders;
+
+    /**
+     * The answers given: the position of the question in the deck, the index
+     * of the answer in {@link Question#getAnswers()} and its time, in
+     * milliseconds since the start of the session.
+     */
+    private final IntArray positions = new IntArray();
+    private final IntArray answers = new IntArray();
+    private final IntArray times = new IntArray();
+    /**
+     * Milliseconds from the start to the end of the session, -1 if it's not
+     * finished.
+     */
+    private int duration = -1;
+
+    /**
+     * @param pSeed
+     *            The seed, see {@link #newSeed()} and {@link #dailySeed(int)}.
+     * @param pLanguage
+     *            The language of the questions.
+     * @param config
+     *            The game configuration, it's copied.
+     */
+    public GameSession(final long pSeed, final Language pLanguage,
+            final CurrentGameConfig config) {
+        this(pSeed, pLanguage, config.getGameMode(), config.getDifQuestions(),
+                toMask(config.getDisciplines()), config.getNumQuestions());
+    }
+
+    private GameSession(final long pSeed, final Language pLanguage,
+            final GameMode pGameMode, final Difficulty pDifficulty,
+            final int pDisciplines, final int pNumQuestions) {
+        seed = pSeed;
+        language = pLanguage;
+        gameMode = pGameMode;
+        difficulty = pDifficulty;
+        disciplines = pDisciplines;
+        numQuestions = pNumQuestions;
+    }
+
+    /**
+     * @return A seed for a new game, different every time.
+     */
+    public static long newSeed() {
+        return SplitMix64.mix64(System.nanoTime() ^ System.currentTimeMillis());
+    }
+
+    /**
+     * The seed of the daily challenge: every player gets the same deck on the
+     * same day, without storing it anywhere.
+     * 
+     * @param yyyymmdd
+     *            The date, for instance 20261017.
+     */
+    public static long dailySeed(final int yyyymmdd) {
+        return SplitMix64.mix64(yyyymmdd);
+    }
+
+    /**
+     * Builds the deck and the answer orders. It must be called before
+     * answering and can be called again to replay the session.
+     * 
+     * @param index
+     *            The question bank.
+     * @return The ids of the questions in the index, in playing order.
+     * @throws IllegalStateException
+     *             If the session was recorded with a different bank.
+     */
+    public final int[] deal(final QuestionIndex index) {
+        if ((bankSize >= 0) && (bankSize != index.size())) { throw new IllegalStateException(
+                "The session was recorded with " + bankSize + " questions, not "
+                        + index.size()); }
+        bankSize = index.size();
+
+        final SplitMix64 root = new SplitMix64(seed);
+        final SplitMix64 deckRnd = root.split();
+        final SplitMix64 answersRnd = root.split();
+
+        final int wanted = (gameMode != GameMode.TEMPUS_FUGIT) ? numQuestions
+                : Integer.MAX_VALUE;
+        deck = new DeckBuilder(index).build(language, getConfig().getDisciplines(),
+                difficulty, wanted, deckRnd);
+
+        answerOrders = new int[deck.length][];
+        for (int i = 0; i < deck.length; i++) {
+            final int[] order = new int[Question.MAX_ANSWERS];
+            for (int j = 0; j < order.length; j++) {
+                order[j] = j;
+            }
+            Sampler.shuffle(order, order.length, answersRnd);
+            answerOrders[i] = order;
+        }
+
+        return deck;
+    }
+
+    /**
+     * The order in which the answers of a question are shown.
+     * 
+     * @param position
+     *            The position of the question in the deck.
+     * @return For each slot on screen, the index of its answer in
+     *         {@link Question#getAnswers()}.
+     */
+    public final int[] getAnswerOrder(final int position) {
+        return answerOrders[position];
+    }
+
+    /**
+     * Records an answer.
+     * 
+     * @param position
+     *            The position of the question in the deck. Questions may be
+     *            skipped when their time runs out.
+     * @param slot
+     *            The slot chosen on screen.
+     * @param millis
+     *            Milliseconds since the start of the session.
+     * @return The index of the answer in {@link Question#getAnswers()}.
+     * @throws IllegalArgumentException
+     *             If the time doesn't fit in an int.
+     */
+    public final int answer(final int position, final int slot,
+            final long millis) {
+        final int time = encodable(millis);
+        final int answer = answerOrders[position][slot];
+        positions.add(position);
+        answers.add(answer);
+        times.add(time);
+        return answer;
+    }
+
+    /**
+     * Records the end of the session.
+     * 
+     * @param millis
+     *            Milliseconds since the start of the session.
+     * @throws IllegalArgumentException
+     *             If the time doesn't fit in an int.
+     */
+    public final void finish(final long millis) {
+        duration = encodable(millis);
+    }
+
+    /**
+     * The times are encoded as ints, a longer session is refused rather than
+     * wrapped around.
+     */
+    private static int encodable(final long millis) {
+        if (millis > Integer.MAX_VALUE) { throw new IllegalArgumentException(
+                "The session is too long to be encoded: " + millis + " ms"); }
+        return (int) millis;
+    }
+
+    /**
+     * Replays the recorded answers against the bank, with the clock of each
+     * one, up to the end of the session if it's finished.
+     * 
+     * @param index
+     *            The question bank.
+     * @return The engine as the game left it: the score, the right and wrong
+     *         answers, etc.
+     * @throws IllegalStateException
+     *             If the session was recorded with a different bank or the
+     *             replay doesn't match the recorded answers.
+     */
+    public final GameEngine replay(final QuestionIndex index) {
+        final GameEngine engine = new GameEngine(gameMode, index, deal(index));
+        for (int i = 0; i < answers.size; i++) {
+            final long nanos = times.get(i) * 1000000L;
+            engine.tick(nanos - engine.getElapsedNanos());
+            if (engine.isOver() || (engine.getPosition() != positions.get(i))) { throw new IllegalStateException(
+                    "Answer " + i + " was given to the question "
+                            + positions.get(i) + ", the replay is at "
+                            + engine.getPosition()); }
+            engine.answer(answers.get(i), nanos);
+        }
+
+        if (duration >= 0) {
+            engine.tick(duration * 1000000L - engine.getElapsedNanos());
+        }
+        return engine;
+    }
+
+    /**
+     * Encodes the session: the seed, the configuration, the bank size, the
+     * answers (9 bytes each) and the duration.
+     */
+    public final String encode() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(seed);
+            out.writeByte(language.ordinal());
+            out.writeByte(gameMode.ordinal());
+            out.writeByte(difficulty.ordinal());
+            out.writeShort(disciplines);
+            out.writeInt(numQuestions);
+            out.writeInt(bankSize);
+            out.writeInt(answers.size);
+            for (int i = 0; i < answers.size; i++) {
+                out.writeInt(positions.get(i));
+                out.writeByte(answers.get(i));
+                out.writeInt(times.get(i));
+            }
+            out.writeInt(duration);
+            out.flush();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return new String(Base64Coder.encode(bytes.toByteArray()));
+    }
+
+    /**
+     * Decodes a session encoded with {@link #encode()}.
+     * 
+     * @throws IllegalArgumentException
+     *             If the text isn't a session.
+     */
+    public static GameSession decode(final String text) {
+        try {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                    Base64Coder.decode(text.trim())));
+            final int format = in.readUnsignedByte();
+            if (format != FORMAT_VERSION) { throw new IllegalArgumentException(
+                    "Unsupported session format " + format + ", only "
+                            + FORMAT_VERSION + " can be replayed"); }
+
+            final GameSession session = new GameSession(in.readLong(),
+                    Language.values()[in.readUnsignedByte()],
+                    GameMode.values()[in.readUnsignedByte()],
+                    Difficulty.values()[in.readUnsignedByte()],
+                    in.readUnsignedShort(), in.readInt());
+            session.bankSize = in.readInt();
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                session.positions.add(in.readInt());
+                session.answers.add(in.readUnsignedByte());
+                session.times.add(in.readInt());
+            }
+            session.duration = in.readInt();
+            return session;
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Not a session: " + text, e);
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Not a session: " + text, e);
+        }
+    }
+
+    /**
+     * @return A new configuration equal to the one of the session.
+     */
+    public final CurrentGameConfig getConfig() {
+        final CurrentGameConfig config = new CurrentGameConfig();
+        config.setGameMode(gameMode);
+        config.setDifQuestions(difficulty);
+        config.setNumQuestions(numQuestions);
+        for (final Discipline dis : Discipline.values()) {
+            config.getDisciplines().put(dis,
+                    (disciplines & (1 << dis.ordinal())) != 0);
+        }
+        return config;
+    }
+
+    private static int toMask(final Map<Discipline, Boolean> map) {
+        int mask = 0;
+        for (final Discipline dis : Discipline.values()) {
+            if (Boolean.TRUE.equals(map.get(dis))) mask |= 1 << dis.ordinal();
+        }
+        return mask;
+    }
+
+    public final long getSeed() {
+        return seed;
+    }
+
+    public final Language getLanguage() {
+        return language;
+    }
+
+    public final int getAnswerCount() {
+        return answers.size;
+    }
+
+    public final int getAnswerPosition(final int i) {
+        return positions.get(i);
+    }
+
+    public final int getAnswer(final int i) {
+        return answers.get(i);
+    }
+
+    public final int getAnswerTime(final int i) {
+        return times.get(i);
+    }
+
+    public final int getDuration() {
+        return duration;
+    }
+}
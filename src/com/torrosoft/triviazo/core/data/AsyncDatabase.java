@@ -0,0 +1,300 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Gdx;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.core.enums.Language;
+import com.torrosoft.triviazo.util.NamedThreadFactory;
+
+/**
+ * Runs the {@link Database} calls out of the render thread. The writes are
+ * serialized on a single I/O thread and the reads are served by a small pool
+ * of reader connections (see {@link Database#openReader()}); if the platform
+ * has no readers, the reads run on the I/O thread too.
+ * <p>
+ * Every call returns a {@link Future} and, if a {@link Callback} is given,
+ * the result is delivered to it on the render thread with
+ * {@link com.badlogic.gdx.Application#postRunnable(Runnable)}. A read always
+ * sees the writes submitted before it.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class AsyncDatabase {
+    private static final int READERS = 2;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+
+    private final Database database;
+    private final ExecutorService writer;
+    private final ExecutorService readerPool;
+    private final BlockingQueue<Database> readers = new ArrayBlockingQueue<Database>(
+            READERS);
+
+    /**
+     * The last write submitted, the reads wait for it.
+     */
+    private volatile Future<?> lastWrite;
+
+    /**
+     * @param pDatabase
+     *            The database, from now on it must only be used through this
+     *            object.
+     */
+    public AsyncDatabase(final Database pDatabase) {
+        database = pDatabase;
+        writer = Executors.newSingleThreadExecutor(new NamedThreadFactory(
+                "triviazo-db-writer"));
+
+        for (int i = 0; i < READERS; i++) {
+            final Database reader = database.openReader();
+            if (reader == null) break;
+            readers.add(reader);
+        }
+        readerPool = readers.isEmpty() ? writer : Executors.newFixedThreadPool(
+                readers.size(), new NamedThreadFactory("triviazo-db-reader"));
+    }
+
+    /**
+     * Runs a job that only reads.
+     * 
+     * @param job
+     *            The job, it gets the connection to use.
+     * @param callback
+     *            Gets the result on the render thread, it may be null.
+     * @return The result.
+     */
+    public final <T> Future<T> read(final Job<T> job, final Callback<T> callback) {
+        if (readerPool == writer) return writer.submit(new Delivery<T>(job,
+                database, callback));
+
+        final Future<?> pendingWrite = lastWrite;
+        return readerPool.submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                if (pendingWrite != null) {
+                    try {
+                        pendingWrite.get();
+                    } catch (final ExecutionException e) {
+                        // Its own callback already got the error
+                    }
+                }
+
+                final Database reader = readers.take();
+                try {
+                    return new Delivery<T>(job, reader, callback).call();
+                } finally {
+                    readers.put(reader);
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs a job that writes, after every write submitted before.
+     * 
+     * @param job
+     *            The job, it gets the connection to use.
+     * @param callback
+     *            Gets the result on the render thread, it may be null.
+     * @return The result.
+     */
+    public final <T> Future<T> write(final Job<T> job, final Callback<T> callback) {
+        final Future<T> future = writer.submit(new Delivery<T>(job, database,
+                callback));
+        lastWrite = future;
+        return future;
+    }
+
+    /**
+     * @see Database#getQuestions(Language, Difficulty, Discipline)
+     */
+    public final Future<List<Question>> getQuestions(final Language lang,
+            final Difficulty diff, final Discipline dis,
+            final Callback<List<Question>> callback) {
+        return read(new Job<List<Question>>() {
+            @Override
+            public List<Question> run(final Database db) {
+                return db.getQuestions(lang, diff, dis);
+            }
+        }, callback);
+    }
+
+    /**
+     * @see Database#getScoreForGameMode(GameMode)
+     */
+    public final Future<Integer> getScoreForGameMode(final GameMode gm,
+            final Callback<Integer> callback) {
+        return read(new Job<Integer>() {
+            @Override
+            public Integer run(final Database db) {
+                return db.getScoreForGameMode(gm);
+            }
+        }, callback);
+    }
+
+    /**
+     * @see Database#addScoreForGameMode(GameMode, int)
+     */
+    public final Future<Void> addScoreForGameMode(final GameMode gm,
+            final int add, final Callback<Void> callback) {
+        return write(new Job<Void>() {
+            @Override
+            public Void run(final Database db) {
+                db.addScoreForGameMode(gm, add);
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * Stops the threads and closes the reader connections. The reads and the
+     * writes already submitted are finished first.
+     */
+    public final void dispose() {
+        readerPool.shutdown();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if ((readerPool != writer)
+                    && !readerPool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS,
+                            TimeUnit.SECONDS)) {
+                // The reads still running keep their connections open
+                readerPool.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Database reader;
+        while ((reader = readers.poll()) != null) {
+            reader.close();
+        }
+    }
+
+    private static void logError(final Throwable error) {
+        if (Gdx.app != null) Gdx.app.error("AsyncDatabase", "Job failed", error);
+        else error.printStackTrace();
+    }
+
+    /**
+     * Work to run against a connection, out of the render thread.
+     * 
+     * @param <T>
+     *            The result type.
+     */
+    public interface Job<T> {
+        /**
+         * @param db
+         *            The connection, only valid during the call.
+         * @return The result.
+         */
+        T run(Database db);
+    }
+
+    /**
+     * Receives the result of a {@link Job} on the render thread.
+     * 
+     * @param <T>
+     *            The result type.
+     */
+    public abstract static class Callback<T> {
+        /**
+         * @param result
+         *            The result of the job.
+         */
+        public abstract void onResult(T result);
+
+        /**
+         * By default the error is just logged.
+         * 
+         * @param error
+         *            What the job threw.
+         */
+        public void onError(final Throwable error) {
+            logError(error);
+        }
+    }
+
+    /**
+     * Runs the job and posts the outcome to the render thread.
+     */
+    private static final class Delivery<T> implements Callable<T> {
+        private final Job<T> job;
+        private final Database db;
+        private final Callback<T> callback;
+
+        Delivery(final Job<T> pJob, final Database pDb,
+                final Callback<T> pCallback) {
+            job = pJob;
+            db = pDb;
+            callback = pCallback;
+        }
+
+        @Override
+        public T call() {
+            final T result;
+            try {
+                result = job.run(db);
+            } catch (final RuntimeException e) {
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (callback != null) callback.onError(e);
+                        else logError(e);
+                    }
+                });
+                throw e;
+            }
+
+            if (callback != null) {
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onResult(result);
+                    }
+                });
+            }
+
+            return result;
+        }
+
+        /**
+         * Without a running application (tools, benchmarks) the outcome is
+         * delivered on the I/O thread.
+         */
+        private static void post(final Runnable runnable) {
+            if (Gdx.app != null) Gdx.app.postRunnable(runnable);
+            else runnable.run();
+        }
+    }
+}
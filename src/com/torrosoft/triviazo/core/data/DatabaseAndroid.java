@@ -17,6 +17,9 @@
 
 package com.torrosoft.triviazo.core.data;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
@@ -24,6 +27,9 @@ import android.database.sqlite.SQLiteDatabase.CursorFactory;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.database.sqlite.SQLiteStatement;
 
+import com.torrosoft.triviazo.util.LRUCache;
+import com.torrosoft.triviazo.util.LRUCache.CacheEntryRemovedListener;
+
 /**
  * Implementation of the android database.
  * 
@@ -32,12 +38,31 @@ import android.database.sqlite.SQLiteStatement;
  * @version 0.1
  */
 public class DatabaseAndroid extends Database {
+    protected final Context context;
     protected SQLiteOpenHelper dbConnection;
     protected SQLiteDatabase stmt;
 
-    public DatabaseAndroid(final Context context) {
-        dbConnection = new AndroidDB(context, database_name, null, version);
-        stmt = dbConnection.getWritableDatabase();
+    /**
+     * The compiled statements of the connection, by SQL. Queries returning a
+     * cursor are not here because SQLiteDatabase already caches them. The
+     * evicted ones are closed, so the order is strict: the statement in use
+     * is always the most recently used one.
+     */
+    private final LRUCache<String, SQLiteStatement> statementCache =
+            new LRUCache<String, SQLiteStatement>(STATEMENT_CACHE_SIZE, true);
+
+    public DatabaseAndroid(final Context pContext) {
+        context = pContext;
+        statementCache.setEntryRemovedListener(
+                new CacheEntryRemovedListener<String, SQLiteStatement>() {
+                    @Override
+                    public void notifyEntryRemoved(final String key,
+                            final SQLiteStatement value) {
+                        value.close();
+                    }
+                });
+        dbConnection = new AndroidDB(pContext, database_name, null, version);
+        setConnection(dbConnection.getWritableDatabase());
     }
 
     /** {@inheritDoc} */
@@ -50,15 +75,108 @@ public class DatabaseAndroid extends Database {
     @Override
     public final int executeUpdate(final String sql) {
         stmt.execSQL(sql);
-        final SQLiteStatement tmp = stmt.compileStatement("SELECT CHANGES()");
-        return (int) tmp.simpleQueryForLong();
+        return (int) compile("SELECT CHANGES()").simpleQueryForLong();
     }
 
     /** {@inheritDoc} */
     @Override
     public final Result query(final String sql) {
-        final ResultAndroid result = new ResultAndroid(stmt.rawQuery(sql, null));
-        return result;
+        return ResultLeakTracker.track(new ResultAndroid(stmt.rawQuery(sql, null)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void execute(final String sql, final Object... args) {
+        bind(compile(sql), args).execute();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int executeUpdate(final String sql, final Object... args) {
+        return bind(compile(sql), args).executeUpdateDelete();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Result query(final String sql, final Object... args) {
+        final String[] strArgs = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            strArgs[i] = (args[i] == null) ? null : args[i].toString();
+        }
+        return ResultLeakTracker.track(new ResultAndroid(stmt.rawQuery(sql,
+                strArgs)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void beginBatch() {
+        stmt.beginTransaction();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void addBatch(final String sql, final Object... args) {
+        // Literal SQL is only run once, there is nothing to reuse
+        if (args.length == 0) stmt.execSQL(sql);
+        else bind(compile(sql), args).execute();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void commitBatch() {
+        stmt.setTransactionSuccessful();
+        stmt.endTransaction();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void rollbackBatch() {
+        stmt.endTransaction();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final InputStream openAsset(final String path) throws IOException {
+        return context.getAssets().open(path);
+    }
+
+    /**
+     * Gets the compiled statement from the cache, compiling it only the first
+     * time.
+     */
+    private SQLiteStatement compile(final String sql) {
+        SQLiteStatement st = statementCache.get(sql);
+        if (st == null) {
+            st = stmt.compileStatement(sql);
+            statementCache.add(sql, st);
+        }
+        return st;
+    }
+
+    private static SQLiteStatement bind(final SQLiteStatement st,
+            final Object... args) {
+        st.clearBindings();
+        for (int i = 0; i < args.length; i++) {
+            final Object arg = args[i];
+            if (arg == null) st.bindNull(i + 1);
+            else if ((arg instanceof Integer) || (arg instanceof Long)) st
+                    .bindLong(i + 1, ((Number) arg).longValue());
+            else if ((arg instanceof Float) || (arg instanceof Double)) st
+                    .bindDouble(i + 1, ((Number) arg).doubleValue());
+            else if (arg instanceof Boolean) st.bindLong(i + 1,
+                    ((Boolean) arg) ? 1 : 0);
+            else st.bindString(i + 1, arg.toString());
+        }
+        return st;
+    }
+
+    /**
+     * Drops the compiled statements, they belong to the previous connection.
+     */
+    private void setConnection(final SQLiteDatabase pDB) {
+        // The listener closes the statements
+        if (stmt != pDB) statementCache.clear();
+        stmt = pDB;
     }
 
     /**
@@ -77,7 +195,7 @@ public class DatabaseAndroid extends Database {
         /** {@inheritDoc} */
         @Override
         public final void onCreate(final SQLiteDatabase pDB) {
-            stmt = pDB;
+            setConnection(pDB);
             DatabaseAndroid.this.onCreate();
         }
 
@@ -85,8 +203,8 @@ public class DatabaseAndroid extends Database {
         @Override
         public final void onUpgrade(final SQLiteDatabase pDB, final int oldVersion,
                 final int newVersion) {
-            stmt = pDB;
-            DatabaseAndroid.this.onUpgrade();
+            setConnection(pDB);
+            DatabaseAndroid.this.onUpgrade(oldVersion);
         }
     }
 
@@ -143,5 +261,11 @@ public class DatabaseAndroid extends Database {
         public final int getInt(final int columnIndex) {
             return cursor.getInt(columnIndex);
         }
+
+        /** {@inheritDoc} */
+        @Override
+        public final void close() {
+            cursor.close();
+        }
     }
 }
@@ -18,11 +18,22 @@
 package com.torrosoft.triviazo.core.data;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.torrosoft.triviazo.util.LRUCache;
+import com.torrosoft.triviazo.util.LRUCache.CacheEntryRemovedListener;
 
 /**
  * Implementation of the desktop database.
@@ -36,48 +47,298 @@ public class DatabaseDesktop extends Database {
     protected Statement stmt;
     protected boolean noDatabase = false;
 
+    /**
+     * The compiled statements of the connection, by SQL. The evicted ones are
+     * closed, so the order is strict: the statement in use is always the most
+     * recently used one.
+     */
+    private final LRUCache<String, PreparedStatement> statementCache =
+            new LRUCache<String, PreparedStatement>(STATEMENT_CACHE_SIZE, true);
+
+    /**
+     * The prepared statement with pending batched parameters, if any.
+     */
+    private PreparedStatement batchStatement;
+    private String batchSql;
+
+    /**
+     * Whether the plain statement has pending batched SQL.
+     */
+    private boolean plainBatchPending = false;
+
+    /**
+     * Closes the statements evicted from the cache.
+     */
+    private static final CacheEntryRemovedListener<String, PreparedStatement> CLOSE_STATEMENT =
+            new CacheEntryRemovedListener<String, PreparedStatement>() {
+                @Override
+                public void notifyEntryRemoved(final String key,
+                        final PreparedStatement value) {
+                    try {
+                        value.close();
+                    } catch (final SQLException e) {
+                        // Closing is only cleanup, the statement is gone
+                        if (Gdx.app != null) Gdx.app.error("DatabaseDesktop",
+                                "Can't close a statement: " + key, e);
+                    }
+                }
+            };
+
     public DatabaseDesktop() {
+        statementCache.setEntryRemovedListener(CLOSE_STATEMENT);
         loadDatabase();
         if (isNewDatabase()) {
             onCreate();
-            upgradeVersion();
-        } else if (isVersionDifferent()) {
-            onUpgrade();
-            upgradeVersion();
+        } else {
+            final int oldVersion = getUserVersion();
+            if (oldVersion < version) onUpgrade(oldVersion);
         }
 
     }
 
+    /**
+     * A connection for {@link #openReader()}. It never creates nor upgrades
+     * the database.
+     */
+    private DatabaseDesktop(final boolean readOnly) {
+        statementCache.setEntryRemovedListener(CLOSE_STATEMENT);
+        loadDatabase();
+        if (readOnly) execute("PRAGMA query_only = 1;");
+    }
+
     /** {@inheritDoc} */
     @Override
     public final void execute(final String sql) {
+        syncBatch();
         try {
             stmt.execute(sql);
         } catch (final SQLException e) {
-            e.printStackTrace();
+            throw new GdxRuntimeException("Can't run: " + sql, e);
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public final int executeUpdate(final String sql) {
+        syncBatch();
         try {
             return stmt.executeUpdate(sql);
         } catch (final SQLException e) {
-            e.printStackTrace();
+            throw new GdxRuntimeException("Can't run: " + sql, e);
         }
-        return 0;
     }
 
     /** {@inheritDoc} */
     @Override
     public final Result query(final String sql) {
+        syncBatch();
+        try {
+            // The shared statement would close this result on its next use
+            final Statement own = dbConnection.createStatement();
+            return ResultLeakTracker.track(new ResultDesktop(own.executeQuery(sql),
+                    own));
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't run: " + sql, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void execute(final String sql, final Object... args) {
+        syncBatch();
+        try {
+            prepare(sql, args).execute();
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't run: " + sql, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int executeUpdate(final String sql, final Object... args) {
+        syncBatch();
+        try {
+            return prepare(sql, args).executeUpdate();
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't run: " + sql, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Result query(final String sql, final Object... args) {
+        syncBatch();
+        try {
+            return ResultLeakTracker.track(new ResultDesktop(prepare(sql, args)
+                    .executeQuery(), null));
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't run: " + sql, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void beginBatch() {
+        try {
+            dbConnection.setAutoCommit(false);
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't begin the batch", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void addBatch(final String sql, final Object... args) {
+        try {
+            if (args.length == 0) {
+                if (batchStatement != null) flushBatch();
+                stmt.addBatch(sql);
+                plainBatchPending = true;
+            } else {
+                if (!sql.equals(batchSql)) flushBatch();
+                final PreparedStatement ps = prepare(sql, args);
+                ps.addBatch();
+                batchStatement = ps;
+                batchSql = sql;
+            }
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't add to the batch: " + sql, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void commitBatch() {
+        try {
+            flushBatch();
+            dbConnection.commit();
+            dbConnection.setAutoCommit(true);
+        } catch (final SQLException e) {
+            final GdxRuntimeException error = new GdxRuntimeException(
+                    "Can't commit the batch, it's rolled back", e);
+            try {
+                rollbackBatch();
+            } catch (final GdxRuntimeException rollbackError) {
+                error.addSuppressed(rollbackError);
+            }
+            throw error;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void rollbackBatch() {
         try {
-            return new ResultDesktop(stmt.executeQuery(sql));
+            stmt.clearBatch();
+            if (batchStatement != null) batchStatement.clearBatch();
+            plainBatchPending = false;
+            batchStatement = null;
+            batchSql = null;
+            dbConnection.rollback();
+            dbConnection.setAutoCommit(true);
         } catch (final SQLException e) {
-            e.printStackTrace();
+            throw new GdxRuntimeException("Can't roll the batch back", e);
+        }
+    }
+
+    /**
+     * Statements run outside the batch must see what the batch has done so
+     * far, so the pending part is sent first.
+     */
+    private void syncBatch() {
+        if (plainBatchPending || (batchStatement != null)) {
+            try {
+                flushBatch();
+            } catch (final SQLException e) {
+                throw new GdxRuntimeException("Can't run the pending batch", e);
+            }
         }
-        return null;
+    }
+
+    /**
+     * Sends the pending statements of the batch, in the order they were added.
+     */
+    private void flushBatch() throws SQLException {
+        if (plainBatchPending) {
+            plainBatchPending = false;
+            stmt.executeBatch();
+        }
+
+        if (batchStatement != null) {
+            final PreparedStatement ps = batchStatement;
+            batchStatement = null;
+            batchSql = null;
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * Gets the compiled statement from the cache (compiling it only the first
+     * time) and binds the arguments.
+     */
+    private PreparedStatement prepare(final String sql, final Object... args)
+            throws SQLException {
+        PreparedStatement ps = statementCache.get(sql);
+        if (ps == null) {
+            ps = dbConnection.prepareStatement(sql);
+            statementCache.add(sql, ps);
+        } else ps.clearParameters();
+
+        for (int i = 0; i < args.length; i++) {
+            final Object arg = args[i];
+            if (arg == null) ps.setNull(i + 1, Types.NULL);
+            else if (arg instanceof Integer) ps.setInt(i + 1, (Integer) arg);
+            else if (arg instanceof Long) ps.setLong(i + 1, (Long) arg);
+            else if (arg instanceof Float) ps.setFloat(i + 1, (Float) arg);
+            else if (arg instanceof Double) ps.setDouble(i + 1, (Double) arg);
+            else if (arg instanceof Boolean) ps.setInt(i + 1,
+                    ((Boolean) arg) ? 1 : 0);
+            else ps.setString(i + 1, arg.toString());
+        }
+
+        return ps;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * NOTE: The database is switched to WAL journal mode first, so the readers
+     * don't wait for the writer and the other way round.
+     */
+    @Override
+    public Database openReader() {
+        query("PRAGMA journal_mode = WAL;").close();
+        return new DatabaseDesktop(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void close() {
+        // The listener closes the statements
+        statementCache.clear();
+        try {
+            stmt.close();
+            dbConnection.close();
+        } catch (final SQLException e) {
+            throw new GdxRuntimeException("Can't close " + database_name, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * NOTE: Like the libGDX internal files, it looks in the working directory
+     * first and then in the classpath.
+     */
+    @Override
+    protected final InputStream openAsset(final String path) throws IOException {
+        final File file = new File(path);
+        if (file.exists()) return new FileInputStream(file);
+
+        final InputStream in = DatabaseDesktop.class.getResourceAsStream("/"
+                + path);
+        if (in == null) throw new FileNotFoundException(path);
+        return in;
     }
 
     /**
@@ -93,26 +354,16 @@ public class DatabaseDesktop extends Database {
                     + database_name + ".sqlite");
             stmt = dbConnection.createStatement();
         } catch (final ClassNotFoundException e) {
-            e.printStackTrace();
+            throw new GdxRuntimeException("The SQLite driver is missing", e);
         } catch (final SQLException e) {
-            e.printStackTrace();
+            throw new GdxRuntimeException("Can't open " + database_name, e);
         }
     }
 
-    private void upgradeVersion() {
-        execute("PRAGMA user_version=" + version);
-    }
-
     private boolean isNewDatabase() {
         return noDatabase;
     }
 
-    private boolean isVersionDifferent() {
-        final Result q = query("PRAGMA user_version");
-        if (!q.isEmpty()) return (q.getFloat(1) != version);
-        else return true;
-    }
-
     /**
      * Result for the Desktop database.
      * 
@@ -122,10 +373,19 @@ public class DatabaseDesktop extends Database {
      */
     public class ResultDesktop implements Result {
         private final ResultSet res;
+        private final Statement owner;
         boolean calledIsEmpty = false;
 
-        public ResultDesktop(final ResultSet res) {
+        /**
+         * @param res
+         *            The result set.
+         * @param pOwner
+         *            The statement created only for this result, closed with
+         *            it, or null if the statement is cached.
+         */
+        public ResultDesktop(final ResultSet res, final Statement pOwner) {
             this.res = res;
+            owner = pOwner;
         }
 
         /** {@inheritDoc} */
@@ -138,9 +398,8 @@ public class DatabaseDesktop extends Database {
                 }
                 return res.getRow() == 0;
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
-            return false;
         }
 
         /** {@inheritDoc} */
@@ -152,9 +411,8 @@ public class DatabaseDesktop extends Database {
                     return true;
                 } else return res.next();
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
-            return false;
         }
 
         /** {@inheritDoc} */
@@ -163,10 +421,8 @@ public class DatabaseDesktop extends Database {
             try {
                 return res.findColumn(name);
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
-
-            return 0;
         }
 
         /** {@inheritDoc} */
@@ -175,10 +431,8 @@ public class DatabaseDesktop extends Database {
             try {
                 return res.getFloat(columnIndex);
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
-
-            return 0;
         }
 
         /** {@inheritDoc} */
@@ -187,10 +441,8 @@ public class DatabaseDesktop extends Database {
             try {
                 return res.getString(columnIndex);
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
-
-            return "";
         }
 
         /** {@inheritDoc} */
@@ -199,10 +451,19 @@ public class DatabaseDesktop extends Database {
             try {
                 return res.getInt(columnIndex);
             } catch (final SQLException e) {
-                e.printStackTrace();
+                throw new GdxRuntimeException(e);
             }
+        }
 
-            return 0;
+        /** {@inheritDoc} */
+        @Override
+        public final void close() {
+            try {
+                res.close();
+                if (owner != null) owner.close();
+            } catch (final SQLException e) {
+                throw new GdxRuntimeException(e);
+            }
         }
     }
 }
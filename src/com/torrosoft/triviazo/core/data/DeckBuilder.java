@@ -0,0 +1,163 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.Map;
+import java.util.Random;
+
+import com.torrosoft.triviazo.core.CurrentGameConfig;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+import com.torrosoft.triviazo.util.Sampler;
+
+/**
+ * Builds the deck of a game balanced by discipline: each selected discipline
+ * gets the same share of the deck, whatever the number of questions it has.
+ * When a discipline has fewer questions than its share, the rest spills over
+ * to the others.
+ * <p>
+ * The pool of each discipline is resolved through the bitsets of the
+ * {@link QuestionIndex}, so no database query is made and several threads
+ * can share a builder.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class DeckBuilder {
+    private static final Discipline[] DISCIPLINES = Discipline.values();
+
+    private final QuestionIndex index;
+
+    public DeckBuilder(final QuestionIndex pIndex) {
+        index = pIndex;
+    }
+
+    /**
+     * Builds the deck of a game configuration: its disciplines, questions
+     * difficulty and number of questions.
+     * 
+     * @see #build(Language, Map, Difficulty, int, Random)
+     */
+    public final int[] build(final Language lang, final CurrentGameConfig config,
+            final Random rnd) {
+        return build(lang, config.getDisciplines(), config.getDifQuestions(),
+                config.getNumQuestions(), rnd);
+    }
+
+    /**
+     * Builds a deck.
+     * 
+     * @param lang
+     *            The language of the questions.
+     * @param disciplines
+     *            The disciplines, only the ones mapped to true are used.
+     * @param diff
+     *            The difficulty, null or {@link Difficulty#ALL} for any.
+     * @param size
+     *            The size of the deck. It's clamped to the questions
+     *            available, so {@link Integer#MAX_VALUE} takes all of them.
+     * @param rnd
+     *            The source of randomness.
+     * @return The ids of the questions in the index, shuffled.
+     */
+    public final int[] build(final Language lang,
+            final Map<Discipline, Boolean> disciplines, final Difficulty diff,
+            final int size, final Random rnd) {
+        final int[][] pools = new int[DISCIPLINES.length][];
+        int strata = 0;
+        long available = 0;
+        for (final Discipline dis : DISCIPLINES) {
+            if (Boolean.TRUE.equals(disciplines.get(dis))) {
+                final int[] pool = QuestionIndex.toArray(index.candidates(
+                        lang, diff, dis));
+                if (pool.length > 0) {
+                    pools[strata++] = pool;
+                    available += pool.length;
+                }
+            }
+        }
+
+        final int[] quotas = quotas(pools, strata, (int) Math.min(Math.max(size,
+                0), available), rnd);
+
+        int total = 0;
+        for (int i = 0; i < strata; i++) {
+            total += quotas[i];
+        }
+
+        final int[] deck = new int[total];
+        int pos = 0;
+        for (int i = 0; i < strata; i++) {
+            final int[] pool = pools[i];
+            for (final int slot : Sampler.sample(pool.length, quotas[i], rnd)) {
+                deck[pos++] = pool[slot];
+            }
+        }
+
+        // Mix the disciplines
+        Sampler.shuffle(deck, deck.length, rnd);
+        return deck;
+    }
+
+    /**
+     * Splits the deck by water filling: the pools smaller than an even share
+     * give all their questions, and the rest of the deck is split evenly
+     * among the bigger ones. The units that don't divide evenly go to random
+     * strata.
+     */
+    private static int[] quotas(final int[][] pools, final int strata,
+            final int size, final Random rnd) {
+        final int[] quotas = new int[strata];
+
+        // The strata by pool size, an insertion sort is enough for a few
+        final int[] order = new int[strata];
+        for (int i = 0; i < strata; i++) {
+            int j = i;
+            while ((j > 0) && (pools[order[j - 1]].length > pools[i].length)) {
+                order[j] = order[j - 1];
+                j -= 1;
+            }
+            order[j] = i;
+        }
+
+        int remaining = size;
+        for (int i = 0; i < strata; i++) {
+            final int left = strata - i;
+            final int pool = pools[order[i]].length;
+            if (((long) pool * left) <= remaining) {
+                quotas[order[i]] = pool;
+                remaining -= pool;
+                continue;
+            }
+
+            // Every pool left is bigger than an even share
+            final int share = remaining / left;
+            for (int j = i; j < strata; j++) {
+                quotas[order[j]] = share;
+            }
+            for (final int j : Sampler.sample(left, remaining % left, rnd)) {
+                quotas[order[i + j]] += 1;
+            }
+            break;
+        }
+
+        return quotas;
+    }
+}
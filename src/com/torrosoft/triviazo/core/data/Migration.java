@@ -0,0 +1,57 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.IOException;
+
+/**
+ * A step of the database schema history. Each step takes the database from
+ * the previous version to {@link #getVersion()} and only touches what that
+ * version changes.
+ * 
+ * @see Migrations
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public abstract class Migration {
+    private final int version;
+
+    protected Migration(final int pVersion) {
+        version = pVersion;
+    }
+
+    /**
+     * @return The version of the database once this step is applied.
+     */
+    public final int getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies the step. It always runs inside a batch, together with the rest
+     * of the pending steps, so it should add its statements with
+     * {@link Database#addBatch(String, Object...)}.
+     * 
+     * @param db
+     *            The database to migrate.
+     * @throws IOException
+     *             If an asset needed by the step can't be read.
+     */
+    public abstract void apply(Database db) throws IOException;
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.torrosoft.triviazo.core.enums.GameMode;
+
+/**
+ * The ordered registry of every {@link Migration}. The version of the
+ * database (PRAGMA user_version) is the version of the last step applied.
+ * <p>
+ * To ship a change, append a step with the next version number; never edit a
+ * step that has already been released. For example, a new question pack is
+ * just:
+ * 
+ * <pre>
+ * register(new PackMigration(3, &quot;questions/2026-w43.pack&quot;));
+ * </pre>
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class Migrations {
+    private static final List<Migration> STEPS = new ArrayList<Migration>();
+
+    static {
+        register(new Baseline());
+        // Version 2: indexes for the question filters, the answers join and
+        // the scoreboard lookups
+        register(new SqlMigration(2,
+                "CREATE INDEX IF NOT EXISTS 'idx_questions_category' "
+                        + "ON 'questions' ('language', 'discipline', 'difficulty');",
+                "CREATE INDEX IF NOT EXISTS 'idx_ans_que_question' "
+                        + "ON 'ans_que' ('question', 'pkid', 'answer', 'right');",
+                "CREATE INDEX IF NOT EXISTS 'idx_scoreboard_game_mode' "
+                        + "ON 'scoreboard' ('game_mode');"));
+    }
+
+    private Migrations() {}
+
+    private static void register(final Migration step) {
+        if (step.getVersion() != (getLatestVersion() + 1)) { throw new IllegalStateException(
+                "Migration " + step.getVersion() + " is out of order"); }
+        STEPS.add(step);
+    }
+
+    /**
+     * @return The version of the database once every step is applied.
+     */
+    public static int getLatestVersion() {
+        return STEPS.isEmpty() ? 0 : STEPS.get(STEPS.size() - 1).getVersion();
+    }
+
+    /**
+     * Gets the steps needed to take a database from a version to the latest
+     * one, in order.
+     * 
+     * @param version
+     *            The current version of the database, 0 if it's new.
+     */
+    public static List<Migration> after(final int version) {
+        if (version >= getLatestVersion()) return Collections.emptyList();
+        return Collections.unmodifiableList(STEPS.subList(Math.max(version, 0),
+                STEPS.size()));
+    }
+
+    /**
+     * Version 1: the original schema and the seed questions.
+     */
+    private static final class Baseline extends PackMigration {
+        Baseline() {
+            super(1, Database.SEED_PACK);
+        }
+
+        @Override
+        public void apply(final Database db) throws IOException {
+            db.addBatch("DROP TABLE IF EXISTS 'discipline';");
+            db.addBatch("DROP TABLE IF EXISTS 'difficulty';");
+            db.addBatch("DROP TABLE IF EXISTS 'language';");
+            db.addBatch("DROP TABLE IF EXISTS 'questions';");
+            db.addBatch("DROP TABLE IF EXISTS 'answers';");
+            db.addBatch("DROP TABLE IF EXISTS 'ans_que';");
+            db.addBatch("CREATE TABLE 'discipline' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'name' VARCHAR NOT NULL);");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('History');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Geography');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Politics');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Technology');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Physics');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Chemistry');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Literature');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Music');");
+            db.addBatch("INSERT INTO 'discipline' ('name') VALUES ('Art');");
+            db.addBatch("CREATE TABLE 'difficulty' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'name' VARCHAR NOT NULL);");
+            db.addBatch("INSERT INTO 'difficulty' ('name') VALUES ('Easy');");
+            db.addBatch("INSERT INTO 'difficulty' ('name') VALUES ('Normal');");
+            db.addBatch("INSERT INTO 'difficulty' ('name') VALUES ('Hard');");
+            db.addBatch("CREATE TABLE 'language' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'name' VARCHAR NOT NULL);");
+            db.addBatch("INSERT INTO 'language' ('name') VALUES ('Spanish');");
+            db.addBatch("INSERT INTO 'language' ('name') VALUES ('English');");
+            db.addBatch("INSERT INTO 'language' ('name') VALUES ('French');");
+            db.addBatch("INSERT INTO 'language' ('name') VALUES ('German');");
+            db.addBatch("CREATE TABLE 'questions' ('pkid' INTEGER PRIMARY KEY  NOT NULL , " +
+                    "'statement' VARCHAR NOT NULL, " +
+                    "'language' INTEGER NOT NULL, " +
+                    "'difficulty' INTEGER NOT NULL, " +
+                    "'discipline' INTEGER NOT NULL, " +
+                    "FOREIGN KEY(language) REFERENCES language(pkid), " +
+                    "FOREIGN KEY(difficulty) REFERENCES difficulty(pkid), " +
+                    "FOREIGN KEY(discipline) REFERENCES discipline(pkid));");
+            db.addBatch("CREATE TABLE 'answers' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'text' VARCHAR NOT NULL) ;");
+            db.addBatch("CREATE TABLE 'ans_que' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'answer' INTEGER NOT NULL, " +
+                    "'question' INTEGER NOT NULL, " +
+                    "'right' INTEGER NOT NULL, " +
+                    "FOREIGN KEY(question) REFERENCES questions(pkid), " +
+                    "FOREIGN KEY(answer) REFERENCES answers(pkid));");
+            // The scores are kept if the baseline is ever applied again
+            db.addBatch("CREATE TABLE IF NOT EXISTS 'scoreboard' ('pkid' INTEGER PRIMARY KEY  NOT NULL , "
+                    + "'game_mode' VARCHAR NOT NULL, 'value' INTEGER NOT NULL);");
+            for (final GameMode gm : GameMode.values()) {
+                db.addBatch("INSERT INTO 'scoreboard' ('game_mode', 'value') SELECT ?, 0 "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM scoreboard WHERE game_mode = ?);",
+                        gm.getDbName(), gm.getDbName());
+            }
+
+            super.apply(db);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.torrosoft.triviazo.core.data.pack.QuestionPackImporter;
+
+/**
+ * A step that adds the questions of a text question pack from the assets. The
+ * questions already stored, and the scores, are left as they are.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class PackMigration extends Migration {
+    private final String pack;
+
+    /**
+     * @param pVersion
+     *            The version of the database once the pack is imported.
+     * @param pPack
+     *            The path of the pack inside the assets.
+     */
+    public PackMigration(final int pVersion, final String pPack) {
+        super(pVersion);
+        pack = pPack;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void apply(final Database db) throws IOException {
+        final InputStream in = db.openAsset(pack);
+        try {
+            // In the batch of the migration, which commits it all or nothing
+            new QuestionPackImporter(db).importPack(in);
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import com.torrosoft.triviazo.core.CurrentGameConfig;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * In-memory index of the whole question bank. It's loaded once and then any
+ * game configuration is resolved with bitwise operations, without touching
+ * the {@link QuestionSource} again.
+ * <p>
+ * Every question gets a dense id (0 to size - 1) and there is one
+ * {@link BitSet} per language, difficulty and discipline with the ids of its
+ * questions.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class QuestionIndex {
+    private final Question[] questions;
+    private final BitSet[] byLanguage = new BitSet[Language.values().length];
+    private final BitSet[] byDifficulty = new BitSet[Difficulty.values().length];
+    private final BitSet[] byDiscipline = new BitSet[Discipline.values().length];
+
+    /**
+     * Loads every question of the source.
+     */
+    public QuestionIndex(final QuestionSource source) {
+        final List<Question> all = source.getQuestions(null, null, null);
+        questions = all.toArray(new Question[all.size()]);
+
+        init(byLanguage);
+        init(byDifficulty);
+        init(byDiscipline);
+        for (int id = 0; id < questions.length; id++) {
+            final Question que = questions[id];
+            byLanguage[que.getLang().ordinal()].set(id);
+            byDifficulty[que.getDifficulty().ordinal()].set(id);
+            byDiscipline[que.getDiscipline().ordinal()].set(id);
+        }
+    }
+
+    private void init(final BitSet[] sets) {
+        for (int i = 0; i < sets.length; i++) {
+            sets[i] = new BitSet(questions.length);
+        }
+    }
+
+    /**
+     * @return The number of questions.
+     */
+    public final int size() {
+        return questions.length;
+    }
+
+    /**
+     * Gets a question by its dense id.
+     */
+    public final Question get(final int id) {
+        return questions[id];
+    }
+
+    /**
+     * Gets the questions of a set of ids, in id order.
+     */
+    public final List<Question> get(final BitSet ids) {
+        final List<Question> res = new ArrayList<Question>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            res.add(questions[id]);
+        }
+        return res;
+    }
+
+    /**
+     * Gets the ids of a set as an array, in id order.
+     */
+    public static int[] toArray(final BitSet ids) {
+        final int[] res = new int[ids.cardinality()];
+        int i = 0;
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            res[i++] = id;
+        }
+        return res;
+    }
+
+    /**
+     * Resolves the candidate questions of a game configuration: the selected
+     * disciplines OR'd together and the questions difficulty, if any.
+     * 
+     * @param lang
+     *            The language of the questions.
+     * @param config
+     *            The game configuration.
+     * @return The ids of the candidates. It's a new set, the caller owns it.
+     */
+    public final BitSet candidates(final Language lang,
+            final CurrentGameConfig config) {
+        final BitSet res = new BitSet(questions.length);
+        for (final Map.Entry<Discipline, Boolean> entry : config
+                .getDisciplines().entrySet()) {
+            if (entry.getValue()) res.or(byDiscipline[entry.getKey().ordinal()]);
+        }
+
+        return filter(res, lang, config.getDifQuestions());
+    }
+
+    /**
+     * Same as {@link #candidates(Language, CurrentGameConfig)} for a single
+     * discipline. Null means any value, as does {@link Difficulty#ALL}.
+     */
+    public final BitSet candidates(final Language lang, final Difficulty diff,
+            final Discipline dis) {
+        final BitSet res;
+        if (dis != null) res = (BitSet) byDiscipline[dis.ordinal()].clone();
+        else {
+            res = new BitSet(questions.length);
+            res.set(0, questions.length);
+        }
+
+        return filter(res, lang, diff);
+    }
+
+    private BitSet filter(final BitSet res, final Language lang,
+            final Difficulty diff) {
+        if (lang != null) res.and(byLanguage[lang.ordinal()]);
+        if ((diff != null) && (diff != Difficulty.ALL)) {
+            res.and(byDifficulty[diff.ordinal()]);
+        }
+        return res;
+    }
+}
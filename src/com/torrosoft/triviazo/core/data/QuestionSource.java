@@ -0,0 +1,49 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Where the game gets its questions from: the {@link Database} or a read-only
+ * question pack.
+ * 
+ * @see com.torrosoft.triviazo.core.data.pack.BinaryQuestionPack
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public interface QuestionSource {
+    /**
+     * Gets the questions that match the given filters.
+     * 
+     * @param lang
+     *            The language of the questions, or null for any language.
+     * @param diff
+     *            The difficulty of the questions, or null for any difficulty.
+     * @param dis
+     *            The discipline of the questions, or null for any discipline.
+     * @return List of questions, empty if none matches.
+     */
+    List<Question> getQuestions(Language lang, Difficulty diff, Discipline dis);
+}
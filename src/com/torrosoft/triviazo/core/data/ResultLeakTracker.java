@@ -0,0 +1,168 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.badlogic.gdx.Gdx;
+import com.torrosoft.triviazo.TriviazoGame;
+import com.torrosoft.triviazo.core.data.Database.Result;
+
+/**
+ * Finds the {@link Result}s that are never closed. In debug mode every result
+ * remembers where it was opened and, if it's garbage collected while still
+ * open, that stack is reported the next time a result is tracked. Out of
+ * debug mode the results are returned untouched, so it costs nothing.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class ResultLeakTracker {
+    private static final String TAG = "ResultLeakTracker";
+
+    /**
+     * The results open, the references are kept here until they're closed
+     * or reported.
+     */
+    private static final Set<Leak> OPEN = Collections
+            .newSetFromMap(new ConcurrentHashMap<Leak, Boolean>());
+    private static final ReferenceQueue<TrackedResult> COLLECTED =
+            new ReferenceQueue<TrackedResult>();
+
+    private ResultLeakTracker() {}
+
+    /**
+     * Starts tracking a result, it must be called right after running the
+     * query.
+     * 
+     * @param res
+     *            The result.
+     * @return The result to hand to the caller.
+     */
+    public static Result track(final Result res) {
+        if (!TriviazoGame.DEBUG_MODE || (res == null)) return res;
+        reportCollected();
+        final TrackedResult tracked = new TrackedResult(res);
+        tracked.leak = new Leak(tracked, res);
+        OPEN.add(tracked.leak);
+        return tracked;
+    }
+
+    /**
+     * @return The tracked results not closed yet (always 0 out of debug mode).
+     */
+    public static int getOpenCount() {
+        reportCollected();
+        return OPEN.size();
+    }
+
+    /**
+     * Reports and closes the results collected while still open.
+     */
+    private static void reportCollected() {
+        Reference<? extends TrackedResult> ref;
+        while ((ref = COLLECTED.poll()) != null) {
+            final Leak leak = (Leak) ref;
+            if (OPEN.remove(leak)) {
+                report(leak.site);
+                leak.res.close();
+            }
+        }
+    }
+
+    private static void report(final Throwable site) {
+        if (Gdx.app != null) Gdx.app.error(TAG,
+                "A result was never closed, it was opened at:", site);
+        else {
+            System.err.println(TAG + ": A result was never closed, it was opened at:");
+            site.printStackTrace();
+        }
+    }
+
+    /**
+     * Enqueued once its result is collected. It holds the real result, so it
+     * can still be closed, and the opening stack.
+     */
+    private static final class Leak extends PhantomReference<TrackedResult> {
+        private final Result res;
+        private final Throwable site = new Throwable("Result opened here");
+
+        Leak(final TrackedResult tracked, final Result pRes) {
+            super(tracked, COLLECTED);
+            res = pRes;
+        }
+    }
+
+    /**
+     * Forwards everything to the real result.
+     */
+    private static final class TrackedResult implements Result {
+        private final Result res;
+        private Leak leak;
+        private volatile boolean closed = false;
+
+        TrackedResult(final Result pRes) {
+            res = pRes;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return res.isEmpty();
+        }
+
+        @Override
+        public boolean moveToNext() {
+            return res.moveToNext();
+        }
+
+        @Override
+        public int getColumnIndex(final String name) {
+            return res.getColumnIndex(name);
+        }
+
+        @Override
+        public float getFloat(final int columnIndex) {
+            return res.getFloat(columnIndex);
+        }
+
+        @Override
+        public int getInt(final int columnIndex) {
+            return res.getInt(columnIndex);
+        }
+
+        @Override
+        public String getString(final int columnIndex) {
+            return res.getString(columnIndex);
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            OPEN.remove(leak);
+            leak.clear();
+            res.close();
+        }
+    }
+}
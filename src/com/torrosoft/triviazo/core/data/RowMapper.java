@@ -0,0 +1,94 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import com.torrosoft.triviazo.core.data.Database.Result;
+
+/**
+ * Maps the rows of a {@link Result} to objects. The column indexes are looked
+ * up once per result in {@link #resolve(Result)}, not once per row, and the
+ * integer codes should be turned into enums with their getXByCode methods
+ * (an array lookup).
+ * <p>
+ * A mapper may keep state between the rows of a result, for instance to
+ * assemble one object from several rows. The rows mapped to null are
+ * skipped by {@link Database#queryList(String, RowMapper, Object...)} and
+ * {@link Database#queryForEach(String, RowMapper, RowConsumer, Object...)}.
+ * 
+ * @param <T>
+ *            The type of the mapped rows.
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public abstract class RowMapper<T> {
+    /**
+     * Looks up the column indexes. It's called once per result, before the
+     * first row.
+     * 
+     * @param res
+     *            The result.
+     */
+    protected abstract void resolve(Result res);
+
+    /**
+     * Maps the current row.
+     * 
+     * @param res
+     *            The result, positioned on the row.
+     * @return The object, or null to skip the row.
+     */
+    protected abstract T map(Result res);
+
+    /**
+     * A mapper for a single integer column, such as a count or a PRAGMA.
+     * 
+     * @param column
+     *            The name of the column.
+     */
+    public static RowMapper<Integer> intColumn(final String column) {
+        return new RowMapper<Integer>() {
+            private int col;
+
+            @Override
+            protected void resolve(final Result res) {
+                col = res.getColumnIndex(column);
+            }
+
+            @Override
+            protected Integer map(final Result res) {
+                return res.getInt(col);
+            }
+        };
+    }
+
+    /**
+     * Receives the mapped rows one by one, so they don't have to be kept in a
+     * list.
+     * 
+     * @param <T>
+     *            The type of the mapped rows.
+     */
+    public interface RowConsumer<T> {
+        /**
+         * @param row
+         *            The mapped row, never null.
+         */
+        void accept(T row);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+/**
+ * A step made of plain SQL statements, for schema changes such as new indexes
+ * or columns.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class SqlMigration extends Migration {
+    private final String[] statements;
+
+    /**
+     * @param pVersion
+     *            The version of the database once the statements are run.
+     * @param pStatements
+     *            The statements, run in order.
+     */
+    public SqlMigration(final int pVersion, final String... pStatements) {
+        super(pVersion);
+        statements = pStatements;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void apply(final Database db) {
+        for (final String sql : statements) {
+            db.addBatch(sql);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.QuestionSource;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Read-only binary question pack, mapped in memory. Nothing is decoded when
+ * it's opened: the records of the requested categories are read on each
+ * query and their texts only when they are first used.
+ * <p>
+ * Layout (big-endian):
+ * <ol>
+ * <li>Header: magic, version, number of questions, number of strings and the
+ * offsets of the four sections below.</li>
+ * <li>Category index: for every language, difficulty and discipline (by
+ * ordinal) the first record and the number of records.</li>
+ * <li>Question records, {@link #RECORD_SIZE} bytes each and grouped by
+ * category: pkid, language, difficulty, discipline, right answer, statement
+ * and the four answers (as string numbers).</li>
+ * <li>String offsets: where each string starts in the string data, plus the
+ * end of the last one.</li>
+ * <li>String data: every distinct text once, in UTF-8.</li>
+ * </ol>
+ * Android assets are compressed inside the APK and can't be mapped, so the
+ * pack has to be copied to the internal storage first.
+ * 
+ * @see BinaryQuestionPackWriter
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class BinaryQuestionPack implements QuestionSource {
+    public static final int MAGIC = 0x54515042; // "TQPB"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8 * 4;
+    public static final int RECORD_SIZE = 4 + 4 + (4 * (1 + Question.MAX_ANSWERS));
+    public static final int INDEX_ENTRY_SIZE = 2 * 4;
+
+    /**
+     * The enums by ordinal, values() would clone them for every record.
+     */
+    private static final Language[] LANGUAGE_VALUES = Language.values();
+    private static final Difficulty[] DIFFICULTY_VALUES = Difficulty.values();
+    private static final Discipline[] DISCIPLINE_VALUES = Discipline.values();
+
+    protected static final int LANGUAGES = LANGUAGE_VALUES.length;
+    protected static final int DIFFICULTIES = DIFFICULTY_VALUES.length;
+    protected static final int DISCIPLINES = DISCIPLINE_VALUES.length;
+    protected static final int CATEGORIES = LANGUAGES * DIFFICULTIES
+            * DISCIPLINES;
+
+    private static final String CHARSET = "UTF-8";
+
+    private final ByteBuffer buffer;
+    private final int questionCount;
+    private final int stringCount;
+    private final int indexPos;
+    private final int recordsPos;
+    private final int stringOffsetsPos;
+    private final int stringDataPos;
+
+    /**
+     * Maps the pack file in memory.
+     * 
+     * @param file
+     *            The binary pack.
+     * @throws IOException
+     *             If the file can't be mapped or isn't a binary pack.
+     */
+    public BinaryQuestionPack(final File file) throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = raf.getChannel();
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        } finally {
+            raf.close();
+        }
+
+        if ((buffer.capacity() < HEADER_SIZE) || (buffer.getInt(0) != MAGIC)) { throw new IOException(
+                file + " is not a binary question pack"); }
+        if (buffer.getInt(4) != VERSION) { throw new IOException(
+                "Unsupported binary question pack version " + buffer.getInt(4)); }
+
+        questionCount = buffer.getInt(8);
+        stringCount = buffer.getInt(12);
+        indexPos = buffer.getInt(16);
+        recordsPos = buffer.getInt(20);
+        stringOffsetsPos = buffer.getInt(24);
+        stringDataPos = buffer.getInt(28);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final List<Question> getQuestions(final Language lang,
+            final Difficulty diff, final Discipline dis) {
+        final List<Question> questions = new ArrayList<Question>();
+
+        for (int l = 0; l < LANGUAGES; l++) {
+            if ((lang != null) && (lang.ordinal() != l)) continue;
+            for (int d = 0; d < DIFFICULTIES; d++) {
+                if ((diff != null) && (diff.ordinal() != d)) continue;
+                for (int s = 0; s < DISCIPLINES; s++) {
+                    if ((dis != null) && (dis.ordinal() != s)) continue;
+
+                    final int entry = indexPos
+                            + (category(l, d, s) * INDEX_ENTRY_SIZE);
+                    final int first = buffer.getInt(entry);
+                    final int count = buffer.getInt(entry + 4);
+                    for (int r = first; r < (first + count); r++) {
+                        questions.add(new PackedQuestion(r));
+                    }
+                }
+            }
+        }
+
+        return questions;
+    }
+
+    public final int getQuestionCount() {
+        return questionCount;
+    }
+
+    public final int getStringCount() {
+        return stringCount;
+    }
+
+    protected static int category(final int lang, final int diff, final int dis) {
+        return (((lang * DIFFICULTIES) + diff) * DISCIPLINES) + dis;
+    }
+
+    private int recordPos(final int record) {
+        return recordsPos + (record * RECORD_SIZE);
+    }
+
+    private String string(final int n) {
+        final int start = buffer.getInt(stringOffsetsPos + (n * 4));
+        final int end = buffer.getInt(stringOffsetsPos + ((n + 1) * 4));
+        final byte[] bytes = new byte[end - start];
+
+        // A duplicate keeps the position of the shared buffer untouched
+        final ByteBuffer dup = buffer.duplicate();
+        dup.position(stringDataPos + start);
+        dup.get(bytes);
+        try {
+            return new String(bytes, CHARSET);
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A question backed by its record. The statement and the answers are
+     * decoded the first time they are read.
+     */
+    private final class PackedQuestion extends Question {
+        private final int pos;
+        private boolean statementRead;
+        private boolean answersRead;
+
+        PackedQuestion(final int record) {
+            super(Integer.toString(buffer.getInt(recordPos(record))), null,
+                    LANGUAGE_VALUES[buffer.get(recordPos(record) + 4)],
+                    DIFFICULTY_VALUES[buffer.get(recordPos(record) + 5)],
+                    DISCIPLINE_VALUES[buffer.get(recordPos(record) + 6)]);
+            pos = recordPos(record);
+            setRight(buffer.get(pos + 7));
+            // The super constructor goes through the setters
+            statementRead = false;
+            answersRead = false;
+        }
+
+        @Override
+        public String getStatement() {
+            if (!statementRead) {
+                setStatement(string(buffer.getInt(pos + 8)));
+            }
+            return super.getStatement();
+        }
+
+        @Override
+        public void setStatement(final String statement) {
+            statementRead = true;
+            super.setStatement(statement);
+        }
+
+        @Override
+        public String[] getAnswers() {
+            if (!answersRead) {
+                final String[] answers = new String[MAX_ANSWERS];
+                for (int i = 0; i < MAX_ANSWERS; i++) {
+                    answers[i] = string(buffer.getInt(pos + 12 + (i * 4)));
+                }
+                setAnswers(answers);
+            }
+            return super.getAnswers();
+        }
+
+        @Override
+        public void setAnswers(final String[] answers) {
+            answersRead = true;
+            super.setAnswers(answers);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+
+/**
+ * Builds a {@link BinaryQuestionPack} from a text question pack. Repeated
+ * texts (answers like "Madrid" or "1492") are stored only once.
+ * <p>
+ * The questions get consecutive pkids starting at 1, in the order of the text
+ * pack, which are the same ones {@link QuestionPackImporter} gives them in an
+ * empty database.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class BinaryQuestionPackWriter {
+    private static final int FIELDS = 7 + Question.MAX_ANSWERS;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private BinaryQuestionPackWriter() {}
+
+    /**
+     * Command line converter. Arguments: text pack, binary pack.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BinaryQuestionPackWriter <text pack> <binary pack>");
+            return;
+        }
+
+        final QuestionPackReader reader = new QuestionPackReader(
+                new FileInputStream(args[0]));
+        try {
+            System.out.println(convert(reader, new File(args[1]))
+                    + " questions written to " + args[1]);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Converts a text pack.
+     * 
+     * @param reader
+     *            The text pack. It's not closed.
+     * @param out
+     *            The binary pack to write.
+     * @return The number of questions written.
+     * @throws IOException
+     *             If a pack can't be read or written.
+     */
+    public static int convert(final QuestionPackReader reader, final File out)
+            throws IOException {
+        final Map<String, Integer> stringIds = new HashMap<String, Integer>();
+        final List<String> strings = new ArrayList<String>();
+
+        // pkid, category, language, difficulty, discipline, right, 5 strings
+        final IntArray records = new IntArray();
+        final int[] categoryCount = new int[BinaryQuestionPack.CATEGORIES];
+        int n = 0;
+        Question que;
+        while ((que = reader.next()) != null) {
+            n += 1;
+            final int category = BinaryQuestionPack.category(que.getLang()
+                    .ordinal(), que.getDifficulty().ordinal(), que
+                    .getDiscipline().ordinal());
+            categoryCount[category] += 1;
+
+            records.add(n);
+            records.add(category);
+            records.add(que.getLang().ordinal());
+            records.add(que.getDifficulty().ordinal());
+            records.add(que.getDiscipline().ordinal());
+            records.add(que.getRight());
+            records.add(intern(que.getStatement(), stringIds, strings));
+            for (final String answer : que.getAnswers()) {
+                records.add(intern(answer, stringIds, strings));
+            }
+        }
+
+        // Counting sort of the records by category, stable
+        final int[] categoryFirst = new int[BinaryQuestionPack.CATEGORIES];
+        for (int c = 1; c < categoryFirst.length; c++) {
+            categoryFirst[c] = categoryFirst[c - 1] + categoryCount[c - 1];
+        }
+        final int[] next = categoryFirst.clone();
+        final int[] order = new int[n];
+        for (int r = 0; r < n; r++) {
+            order[next[records.get((r * FIELDS) + 1)]++] = r;
+        }
+
+        final byte[][] encoded = new byte[strings.size()][];
+        long dataSize = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = strings.get(i).getBytes("UTF-8");
+            dataSize += encoded[i].length;
+        }
+
+        final long indexPos = BinaryQuestionPack.HEADER_SIZE;
+        final long recordsPos = indexPos
+                + (BinaryQuestionPack.CATEGORIES * BinaryQuestionPack.INDEX_ENTRY_SIZE);
+        final long stringOffsetsPos = recordsPos
+                + ((long) n * BinaryQuestionPack.RECORD_SIZE);
+        final long stringDataPos = stringOffsetsPos
+                + ((encoded.length + 1L) * 4);
+        if ((stringDataPos + dataSize) > Integer.MAX_VALUE) { throw new IOException(
+                "The binary question pack can't be bigger than 2 GB"); }
+
+        final DataOutputStream dos = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(out), BUFFER_SIZE));
+        try {
+            dos.writeInt(BinaryQuestionPack.MAGIC);
+            dos.writeInt(BinaryQuestionPack.VERSION);
+            dos.writeInt(n);
+            dos.writeInt(encoded.length);
+            dos.writeInt((int) indexPos);
+            dos.writeInt((int) recordsPos);
+            dos.writeInt((int) stringOffsetsPos);
+            dos.writeInt((int) stringDataPos);
+
+            for (int c = 0; c < BinaryQuestionPack.CATEGORIES; c++) {
+                dos.writeInt(categoryFirst[c]);
+                dos.writeInt(categoryCount[c]);
+            }
+
+            for (final int r : order) {
+                final int base = r * FIELDS;
+                dos.writeInt(records.get(base));
+                dos.writeByte(records.get(base + 2));
+                dos.writeByte(records.get(base + 3));
+                dos.writeByte(records.get(base + 4));
+                dos.writeByte(records.get(base + 5));
+                for (int i = 6; i < FIELDS; i++) {
+                    dos.writeInt(records.get(base + i));
+                }
+            }
+
+            int offset = 0;
+            for (final byte[] bytes : encoded) {
+                dos.writeInt(offset);
+                offset += bytes.length;
+            }
+            dos.writeInt(offset);
+
+            for (final byte[] bytes : encoded) {
+                dos.write(bytes);
+            }
+        } finally {
+            dos.close();
+        }
+
+        return n;
+    }
+
+    private static int intern(final String str,
+            final Map<String, Integer> stringIds, final List<String> strings) {
+        Integer id = stringIds.get(str);
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(str, id);
+            strings.add(str);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.torrosoft.triviazo.core.data.Database;
+import com.torrosoft.triviazo.core.data.PackMigration;
+import com.torrosoft.triviazo.core.data.RowMapper;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+
+/**
+ * Imports a text question pack into the database. The pack is read as a
+ * stream and written in chunks, so the memory used doesn't depend on the size
+ * of the pack.
+ * <p>
+ * It must run inside a batch ({@link Database#beginBatch()}). By default the
+ * whole pack is written in that batch, so the caller decides whether it's
+ * committed: a {@link PackMigration} imports it together with the rest of
+ * the migration, all or nothing. A standalone import, which owns its batch,
+ * may give a transaction size instead: every transaction size questions the
+ * batch is committed and a new one is begun, which keeps the journal small
+ * on huge packs but leaves the questions committed so far if it fails.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class QuestionPackImporter {
+    /**
+     * The whole pack in the batch of the caller, never committed here.
+     */
+    public static final int ONE_TRANSACTION = 0;
+
+    /**
+     * A transaction size for the standalone imports of huge packs.
+     */
+    public static final int DEFAULT_TRANSACTION_SIZE = 20000;
+
+    /**
+     * Questions written together. Each chunk costs three batched statements:
+     * questions, answers and ans_que.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_QUESTION = "INSERT INTO 'questions' "
+            + "('pkid', 'statement', 'language', 'difficulty', 'discipline') "
+            + "VALUES (?, ?, ?, ?, ?);";
+    private static final String INSERT_ANSWER = "INSERT INTO 'answers' "
+            + "('pkid', 'text') VALUES (?, ?);";
+    private static final String INSERT_ANS_QUE = "INSERT INTO 'ans_que' "
+            + "('answer', 'question', 'right') VALUES (?, ?, ?);";
+
+    private final Database db;
+    private final int transactionSize;
+    private final Question[] chunk = new Question[CHUNK_SIZE];
+    private int nextQuestion;
+    private int nextAnswer;
+
+    /**
+     * Creates an importer which writes the whole pack in the batch of the
+     * caller.
+     */
+    public QuestionPackImporter(final Database pDb) {
+        this(pDb, ONE_TRANSACTION);
+    }
+
+    /**
+     * Creates an importer which commits the batch every transaction size
+     * questions. Only for imports which own the batch, never inside a
+     * migration.
+     * 
+     * @param pTransactionSize
+     *            The questions per transaction, or {@link #ONE_TRANSACTION}.
+     */
+    public QuestionPackImporter(final Database pDb, final int pTransactionSize) {
+        if ((pTransactionSize != ONE_TRANSACTION)
+                && (pTransactionSize < CHUNK_SIZE)) { throw new IllegalArgumentException(
+                "The transaction size must be at least " + CHUNK_SIZE); }
+        db = pDb;
+        transactionSize = pTransactionSize;
+    }
+
+    /**
+     * Imports every question of the pack after the ones already stored.
+     * 
+     * @param in
+     *            The pack. It's not closed.
+     * @return The number of questions imported.
+     * @throws IOException
+     *             If the pack can't be read or a record is malformed.
+     */
+    public final int importPack(final InputStream in) throws IOException {
+        nextQuestion = maxPkid("questions") + 1;
+        nextAnswer = maxPkid("answers") + 1;
+
+        final QuestionPackReader reader = new QuestionPackReader(in);
+        int total = 0;
+        int inTransaction = 0;
+        int n = 0;
+        Question que;
+        while ((que = reader.next()) != null) {
+            chunk[n++] = que;
+            if (n == CHUNK_SIZE) {
+                writeChunk(n);
+                total += n;
+                inTransaction += n;
+                n = 0;
+                if ((transactionSize != ONE_TRANSACTION)
+                        && (inTransaction >= transactionSize)) {
+                    db.commitBatch();
+                    db.beginBatch();
+                    inTransaction = 0;
+                }
+            }
+        }
+        writeChunk(n);
+        total += n;
+
+        return total;
+    }
+
+    private void writeChunk(final int n) {
+        for (int i = 0; i < n; i++) {
+            final Question que = chunk[i];
+            db.addBatch(INSERT_QUESTION, nextQuestion + i, que.getStatement(),
+                    que.getLang().getCode(), que.getDifficulty().getCode(),
+                    que.getDiscipline().getCode());
+        }
+
+        for (int i = 0; i < n; i++) {
+            final String[] answers = chunk[i].getAnswers();
+            for (int j = 0; j < Question.MAX_ANSWERS; j++) {
+                db.addBatch(INSERT_ANSWER, nextAnswer
+                        + (i * Question.MAX_ANSWERS) + j, answers[j]);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            final int right = chunk[i].getRight();
+            for (int j = 0; j < Question.MAX_ANSWERS; j++) {
+                db.addBatch(INSERT_ANS_QUE, nextAnswer
+                        + (i * Question.MAX_ANSWERS) + j, nextQuestion + i,
+                        (j == right) ? 1 : 0);
+            }
+            chunk[i] = null;
+        }
+
+        nextQuestion += n;
+        nextAnswer += n * Question.MAX_ANSWERS;
+    }
+
+    private int maxPkid(final String table) {
+        return db.queryFirst("SELECT COALESCE(MAX(pkid), 0) AS m FROM " + table
+                + ";", RowMapper.intColumn("m"));
+    }
+}
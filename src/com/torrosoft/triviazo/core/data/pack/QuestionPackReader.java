@@ -0,0 +1,151 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Streaming reader of the text question packs. Only the current line is kept
+ * in memory, so a pack of any size can be read.
+ * <p>
+ * The format is UTF-8, one question per line, with the fields separated by
+ * tabs: language, difficulty, discipline (their names, e.g. "Spanish",
+ * "Normal", "History"), index of the right answer (0-3), statement and the
+ * four answers. Tabs, line breaks and backslashes inside a text are written
+ * as \t, \n and \\. Empty lines and lines starting with '#' are ignored.
+ * 
+ * @see QuestionPackWriter
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class QuestionPackReader implements Closeable {
+    public static final String CHARSET = "UTF-8";
+    public static final char SEPARATOR = '\t';
+    public static final char COMMENT = '#';
+    protected static final int FIELDS = 5 + Question.MAX_ANSWERS;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final String[] fields = new String[FIELDS];
+    private int lineNumber = 0;
+
+    public QuestionPackReader(final InputStream in) throws IOException {
+        reader = new BufferedReader(new InputStreamReader(in, CHARSET),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the next question of the pack.
+     * 
+     * @return The question (without pkid), or null at the end of the pack.
+     * @throws IOException
+     *             If the pack can't be read or a record is malformed.
+     */
+    public final Question next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) return null;
+            lineNumber += 1;
+        } while ((line.length() == 0) || (line.charAt(0) == COMMENT));
+
+        split(line);
+
+        final Language lang = Language.getLanguageByName(fields[0]);
+        final Difficulty diff = Difficulty.getDifficultyByName(fields[1]);
+        final Discipline dis = Discipline.getDisciplineByName(fields[2]);
+        if ((lang == null) || (diff == null) || (dis == null)) {
+            throw malformed("unknown language, difficulty or discipline");
+        }
+
+        int right;
+        try {
+            right = Integer.parseInt(fields[3]);
+        } catch (final NumberFormatException e) {
+            right = -1;
+        }
+        if ((right < 0) || (right >= Question.MAX_ANSWERS)) {
+            throw malformed("the right answer must be inside [0, "
+                    + (Question.MAX_ANSWERS - 1) + "]");
+        }
+
+        final String[] answers = new String[Question.MAX_ANSWERS];
+        for (int i = 0; i < Question.MAX_ANSWERS; i++) {
+            answers[i] = unescape(fields[5 + i]);
+        }
+
+        return new Question(null, unescape(fields[4]), answers, right, lang,
+                diff, dis);
+    }
+
+    /**
+     * @return The number of the last line read, starting at 1.
+     */
+    public final int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public final void close() throws IOException {
+        reader.close();
+    }
+
+    private void split(final String line) throws IOException {
+        int n = 0;
+        int start = 0;
+        int end;
+        while ((end = line.indexOf(SEPARATOR, start)) >= 0) {
+            if (n == (FIELDS - 1)) throw malformed("too many fields");
+            fields[n++] = line.substring(start, end);
+            start = end + 1;
+        }
+        fields[n++] = line.substring(start);
+        if (n != FIELDS) throw malformed(n + " fields instead of " + FIELDS);
+    }
+
+    private IOException malformed(final String reason) {
+        return new IOException("Malformed question at line " + lineNumber + ": "
+                + reason);
+    }
+
+    private static String unescape(final String str) {
+        if (str.indexOf('\\') < 0) return str;
+
+        final StringBuilder sb = new StringBuilder(str.length());
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if ((c == '\\') && (i + 1 < str.length())) {
+                final char next = str.charAt(++i);
+                if (next == 't') sb.append('\t');
+                else if (next == 'n') sb.append('\n');
+                else sb.append(next);
+            } else sb.append(c);
+        }
+        return sb.toString();
+    }
+}
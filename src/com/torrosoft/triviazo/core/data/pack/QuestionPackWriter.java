@@ -0,0 +1,91 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+
+/**
+ * Writes questions in the text pack format described in
+ * {@link QuestionPackReader}.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class QuestionPackWriter implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public QuestionPackWriter(final OutputStream out) throws IOException {
+        writer = new BufferedWriter(new OutputStreamWriter(out,
+                QuestionPackReader.CHARSET), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes a comment line.
+     */
+    public final void comment(final String text) throws IOException {
+        writer.write(QuestionPackReader.COMMENT);
+        writer.write(' ');
+        writer.write(text);
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a question. Its pkid is not part of the pack.
+     */
+    public final void write(final Question que) throws IOException {
+        writer.write(que.getLang().getName());
+        writer.write(QuestionPackReader.SEPARATOR);
+        writer.write(que.getDifficulty().getName());
+        writer.write(QuestionPackReader.SEPARATOR);
+        writer.write(que.getDiscipline().getName());
+        writer.write(QuestionPackReader.SEPARATOR);
+        writer.write(Integer.toString(que.getRight()));
+        writer.write(QuestionPackReader.SEPARATOR);
+        escape(que.getStatement());
+        for (final String answer : que.getAnswers()) {
+            writer.write(QuestionPackReader.SEPARATOR);
+            escape(answer);
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public final void close() throws IOException {
+        writer.close();
+    }
+
+    private void escape(final String str) throws IOException {
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '\t') writer.write("\\t");
+            else if (c == '\n') writer.write("\\n");
+            else if (c == '\\') writer.write("\\\\");
+            else writer.write(c);
+        }
+    }
+}
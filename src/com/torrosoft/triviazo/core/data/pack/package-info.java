@@ -0,0 +1,9 @@
+/**
+ * This package contains the question packs, the files the question bank is
+ * loaded from.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+package com.torrosoft.triviazo.core.data.pack;
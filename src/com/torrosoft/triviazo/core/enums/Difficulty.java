@@ -31,6 +31,8 @@ public enum Difficulty {
     INSANE("Insane"), // Only used for IA
     ALL("All"); // Only used for questions
 
+    private static final Difficulty[] BY_CODE = values();
+
     private String name;
 
     private Difficulty(final String name) {
@@ -56,4 +58,25 @@ public enum Difficulty {
 
         return res;
     }
+
+    /**
+     * @return The pkid of the difficulty in the database. Only EASY, NORMAL
+     *         and HARD are stored.
+     */
+    public int getCode() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * The lookup table of the database is seeded in declaration order, so the
+     * code is resolved without searching.
+     * 
+     * @param code
+     *            The pkid of the difficulty in the database.
+     * @return The difficulty, or null if the code is unknown.
+     */
+    public static Difficulty getDifficultyByCode(final int code) {
+        if ((code < 1) || (code > BY_CODE.length)) return null;
+        return BY_CODE[code - 1];
+    }
 }
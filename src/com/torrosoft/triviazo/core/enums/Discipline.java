@@ -35,6 +35,8 @@ public enum Discipline {
     MUSIC("Music"),
     ART("Art");
 
+    private static final Discipline[] BY_CODE = values();
+
     private String name;
 
     private Discipline(final String name) {
@@ -60,4 +62,24 @@ public enum Discipline {
 
         return res;
     }
+
+    /**
+     * @return The pkid of the discipline in the database.
+     */
+    public int getCode() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * The lookup table of the database is seeded in declaration order, so the
+     * code is resolved without searching.
+     * 
+     * @param code
+     *            The pkid of the discipline in the database.
+     * @return The discipline, or null if the code is unknown.
+     */
+    public static Discipline getDisciplineByCode(final int code) {
+        if ((code < 1) || (code > BY_CODE.length)) return null;
+        return BY_CODE[code - 1];
+    }
 }
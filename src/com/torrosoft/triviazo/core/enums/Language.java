@@ -30,6 +30,8 @@ public enum Language {
     fr_FR("French"),
     de_DE("German");
 
+    private static final Language[] BY_CODE = values();
+
     private String name;
 
     private Language(final String name) {
@@ -54,4 +56,24 @@ public enum Language {
         }
         return res;
     }
+
+    /**
+     * @return The pkid of the language in the database.
+     */
+    public int getCode() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * The lookup table of the database is seeded in declaration order, so the
+     * code is resolved without searching.
+     * 
+     * @param code
+     *            The pkid of the language in the database.
+     * @return The language, or null if the code is unknown.
+     */
+    public static Language getLanguageByCode(final int code) {
+        if ((code < 1) || (code > BY_CODE.length)) return null;
+        return BY_CODE[code - 1];
+    }
 }
@@ -17,14 +17,10 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
@@ -42,14 +38,9 @@ public final class AboutScreen extends AbstractScreen {
     }
 
     @Override
-    public void show() {
-        super.show();
-        game.getSoundManager().play(TriviazoSound.CHIMP);
-
+    protected void build() {
         final Table table = super.getTable();
-        final Texture img = new Texture(Gdx.files.internal("images/about.png"));
-        final Drawable splashDrawable = new TextureRegionDrawable(new TextureRegion(
-                img));
+        final Drawable splashDrawable = getDrawable("images/about.png");
         table.setBackground(splashDrawable);
         table.row();
         table.pad(0F, 10F, 10F, 0F); // Bottom and left padding
@@ -65,7 +56,7 @@ public final class AboutScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(MenuScreen.class);
             }
         });
         table.add(returnButton)
@@ -74,4 +65,9 @@ public final class AboutScreen extends AbstractScreen {
                 .spaceBottom(AbstractScreen.BUTTON_SPACING);
         table.row();
     }
+
+    @Override
+    protected void reset() {
+        game.getSoundManager().play(TriviazoSound.CHIMP);
+    }
 }
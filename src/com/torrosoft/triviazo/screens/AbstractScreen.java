@@ -19,19 +19,25 @@ package com.torrosoft.triviazo.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.core.CurrentGameConfig;
+import com.torrosoft.triviazo.services.music.TriviazoMusic;
 
 /**
  * This class describes common fields and methods of each {@link Screen} that
  * contains the game. It is only possible view one screen at a time.
+ * <p>
+ * The screens are kept by the {@link ScreenRegistry} and shown again and
+ * again: the actors are created once, by {@link #build()}, and every time the
+ * screen is shown {@link #reset()} puts them back in their initial state.
  * 
  * @author Sergio Torró
  * @since 04/05/2013
@@ -66,17 +72,26 @@ public class AbstractScreen implements Screen {
 
     /**
      * A 2D scene graph containing hierarchies of actors. Stage handles the
-     * viewport and distributes input events.
+     * viewport and distributes input events. It draws with the batch shared
+     * by all the screens.
      */
-    protected final Stage stage = new Stage();
+    protected final Stage stage;
 
     /**
      * It controls the menu shape.
      */
     private Table table;
-    private BitmapFont font;
-    private SpriteBatch batch;
-    private Skin skin;
+
+    /**
+     * The images got by the screen, by path, released on dispose.
+     */
+    private final ObjectMap<String, Drawable> images =
+            new ObjectMap<String, Drawable>();
+
+    /**
+     * If the actors are already created.
+     */
+    private boolean built = false;
 
     protected static final CurrentGameConfig gameConfig = new CurrentGameConfig();
 
@@ -88,6 +103,7 @@ public class AbstractScreen implements Screen {
      */
     public AbstractScreen(final TriviazoGame game) {
         this.game = game;
+        stage = new Stage(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, false, getBatch());
     }
 
     protected final String getName() {
@@ -98,30 +114,42 @@ public class AbstractScreen implements Screen {
         return false;
     }
 
+    /**
+     * @return The default font, shared with the other screens.
+     */
     public final BitmapFont getFont() {
-        if (font == null) {
-            font = new BitmapFont();
-        }
-
-        return font;
+        return game.getUiManager().getFont();
     }
 
+    /**
+     * @return The sprite batch, shared with the other screens.
+     */
     public final SpriteBatch getBatch() {
-        if (batch == null) {
-            batch = new SpriteBatch();
-        }
-
-        return batch;
+        return game.getUiManager().getBatch();
     }
 
+    /**
+     * @return The skin, shared with the other screens.
+     */
     protected final Skin getSkin() {
-        if (skin == null) {
-            final FileHandle skinFile = Gdx.files.internal("skin/uiskin.json");
+        return game.getUiManager().getSkin();
+    }
 
-            skin = new Skin(skinFile);
+    /**
+     * Gets an image shared with the other screens, it's released when the
+     * screen is disposed. Asking again for the same image gives the same
+     * drawable.
+     * 
+     * @param path
+     *            The path of the image in the assets.
+     */
+    protected final Drawable getDrawable(final String path) {
+        Drawable drawable = images.get(path);
+        if (drawable == null) {
+            drawable = game.getImageManager().getDrawable(path);
+            images.put(path, drawable);
         }
-
-        return skin;
+        return drawable;
     }
 
     protected final Table getTable() {
@@ -138,6 +166,9 @@ public class AbstractScreen implements Screen {
     /** {@inheritDoc} */
     @Override
     public final void render(final float delta) {
+        // move the clocks of the screen
+        update(delta);
+
         // process the game logic, update the actors
         stage.act(delta);
 
@@ -149,6 +180,16 @@ public class AbstractScreen implements Screen {
         stage.draw();
     }
 
+    /**
+     * It's called every frame before the actors act, on the render thread.
+     * 
+     * @param delta
+     *            The time of the frame, in seconds.
+     */
+    protected void update(final float delta) {
+        // Nothing to update
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -159,16 +200,55 @@ public class AbstractScreen implements Screen {
         stage.setViewport(width, height, true);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     * 
+     * NOTE: The actors are created the first time.
+     */
     @Override
-    public void show() {
+    public final void show() {
         Gdx.input.setInputProcessor(stage);
+        if (!built) {
+            build();
+            built = true;
+        }
+        reset();
+
+        final TriviazoMusic nextMusic = getNextMusic();
+        if (nextMusic != null) game.getMusicManager().prefetch(nextMusic);
     }
 
-    /** {@inheritDoc} */
+    /**
+     * It creates the actors of the screen, only once.
+     */
+    protected void build() {
+        // Nothing to create
+    }
+
+    /**
+     * It puts the screen in its initial state, every time it's shown.
+     */
+    protected void reset() {
+        // Nothing to reset
+    }
+
+    /**
+     * @return The music likely to be played after this screen, which is
+     *         prefetched when it's shown, or null.
+     */
+    protected TriviazoMusic getNextMusic() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * NOTE: The screen is kept to be shown again, it's disposed by the
+     * {@link ScreenRegistry}.
+     */
     @Override
-    public final void hide() {
-        dispose();
+    public void hide() {
+        // Nothing to stop
     }
 
     /** {@inheritDoc} */
@@ -183,18 +263,18 @@ public class AbstractScreen implements Screen {
         // TODO resume() if needed
     }
 
-    /** {@inheritDoc} */
+    /**
+     * {@inheritDoc}
+     * 
+     * NOTE: Only what belongs to the screen is disposed, the skin, the batch
+     * and the fonts are kept by the {@link TriviazoGame#getUiManager()}.
+     */
     @Override
     public final void dispose() {
-        if (font != null) {
-            font.dispose();
-        }
-        if (batch != null) {
-            batch.dispose();
-        }
-        if (skin != null) {
-            skin.dispose();
-            // if (stage != null) stage.dispose();
+        for (final String path : images.keys()) {
+            game.getImageManager().release(path);
         }
+        images.clear();
+        stage.dispose();
     }
 }
@@ -17,18 +17,15 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.services.music.TriviazoMusic;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
 
@@ -69,23 +66,26 @@ public class DisciplinesScreen extends AbstractScreen {
     }
 
     /**
-     * The method for show the UI. It handles the main {@link Table}.
+     * The method for create the UI. It handles the main {@link Table}.
      */
     @Override
-    public void show() {
-        super.show();
+    protected void build() {
         mainTable = super.getTable();
 
-        final Texture texture = new Texture(
-                Gdx.files.internal("images/disciplines.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(
-                texture));
+        final Drawable drawable = getDrawable("images/disciplines.png");
         mainTable.setBackground(drawable);
 
         // Create UI
         createButtonsTable();
         createDisciplinesTable();
+    }
 
+    /**
+     * It checks the disciplines of the current configuration.
+     */
+    @Override
+    protected void reset() {
+        selectedCount = 0;
         if (gameConfig.getDisciplines().get(Discipline.HISTORY)) {
             btnHistory.setChecked(true);
             selectedCount += 1;
@@ -132,6 +132,14 @@ public class DisciplinesScreen extends AbstractScreen {
         } else btnArt.setChecked(false);
     }
 
+    /**
+     * The game of the mode chosen comes next.
+     */
+    @Override
+    protected final TriviazoMusic getNextMusic() {
+        return GameScreen.getMusic(gameConfig.getGameMode());
+    }
+
     /**
      * This method creates the buttons of the bottom and its listeners.
      */
@@ -152,7 +160,7 @@ public class DisciplinesScreen extends AbstractScreen {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
                 setMapValues();
-                game.setScreen(new LastConfigScreen(game));
+                game.setScreen(LastConfigScreen.class);
             }
         });
 
@@ -164,7 +172,7 @@ public class DisciplinesScreen extends AbstractScreen {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
                 setMapValues();
-                game.setScreen(new GameModeScreen(game));
+                game.setScreen(GameModeScreen.class);
             }
         });
 
@@ -199,92 +207,72 @@ public class DisciplinesScreen extends AbstractScreen {
         tableDisciplines.setFillParent(true);
 
         // History
-        Texture texUp = new Texture(
-                Gdx.files.internal("images/buttons/his_btn_up.png"));
-        Texture texDown = new Texture(
-                Gdx.files.internal("images/buttons/his_btn_down.png"));
-        Drawable drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        Drawable drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        Drawable drawUp = getDrawable("images/buttons/his_btn_up.png");
+        Drawable drawDown = getDrawable("images/buttons/his_btn_down.png");
         ImageButton.ImageButtonStyle btnStyle = new ImageButton.ImageButtonStyle(
                 drawUp,
                 drawDown, drawDown, drawUp, drawDown, drawDown);
         btnHistory = new ImageButton(btnStyle);
 
         // Geography
-        texUp = new Texture(Gdx.files.internal("images/buttons/geo_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/geo_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/geo_btn_up.png");
+        drawDown = getDrawable("images/buttons/geo_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnGeography = new ImageButton(btnStyle);
 
         // Politics
-        texUp = new Texture(Gdx.files.internal("images/buttons/pol_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/pol_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/pol_btn_up.png");
+        drawDown = getDrawable("images/buttons/pol_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnPolitics = new ImageButton(btnStyle);
 
         // Technology
-        texUp = new Texture(Gdx.files.internal("images/buttons/tec_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/tec_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/tec_btn_up.png");
+        drawDown = getDrawable("images/buttons/tec_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnTechnology = new ImageButton(btnStyle);
 
         // Physics
-        texUp = new Texture(Gdx.files.internal("images/buttons/fis_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/fis_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/fis_btn_up.png");
+        drawDown = getDrawable("images/buttons/fis_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnPhysics = new ImageButton(btnStyle);
 
         // Chemistry
-        texUp = new Texture(Gdx.files.internal("images/buttons/qui_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/qui_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/qui_btn_up.png");
+        drawDown = getDrawable("images/buttons/qui_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnChemistry = new ImageButton(btnStyle);
 
         // Literature
-        texUp = new Texture(Gdx.files.internal("images/buttons/lit_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/lit_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/lit_btn_up.png");
+        drawDown = getDrawable("images/buttons/lit_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnLiterature = new ImageButton(btnStyle);
 
         // Music
-        texUp = new Texture(Gdx.files.internal("images/buttons/mus_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/mus_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/mus_btn_up.png");
+        drawDown = getDrawable("images/buttons/mus_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
         btnMusic = new ImageButton(btnStyle);
 
         // Art
-        texUp = new Texture(Gdx.files.internal("images/buttons/art_btn_up.png"));
-        texDown = new Texture(Gdx.files.internal("images/buttons/art_btn_down.png"));
-        drawUp = new TextureRegionDrawable(new TextureRegion(texUp));
-        drawDown = new TextureRegionDrawable(new TextureRegion(texDown));
+        drawUp = getDrawable("images/buttons/art_btn_up.png");
+        drawDown = getDrawable("images/buttons/art_btn_down.png");
         btnStyle = new ImageButton.ImageButtonStyle(drawUp, drawDown, drawDown,
                 drawUp, drawDown,
                 drawDown);
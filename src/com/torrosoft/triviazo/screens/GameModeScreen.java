@@ -17,16 +17,12 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.core.enums.GameMode;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
@@ -69,30 +65,30 @@ public final class GameModeScreen extends AbstractScreen {
     }
 
     /**
-     * The method for show the UI. It handles the main {@link Table}.
+     * The method for create the UI. It handles the main {@link Table}.
      */
     @Override
-    public void show() {
-        super.show();
+    protected void build() {
         mainTable = super.getTable();
 
         // Create UI
         createGameModesTable();
         createButtonsTable();
+    }
 
+    /**
+     * It checks the game mode of the current configuration.
+     */
+    @Override
+    protected void reset() {
         // Default game mode background
-        // if (gameConfig.getGameMode())
-        if (gameConfig.getGameMode() == GameMode.VINDICETIS_EX_SIMIUS) {
-            btnSimius
-                    .setChecked(true);
-        } else if (gameConfig.getGameMode() == GameMode.TEMPUS_FUGIT) {
-            btnTempus
-                    .setChecked(true);
-        } else {
-            btnMachina.setChecked(true);
-        }
+        final GameMode gameMode = gameConfig.getGameMode();
+        btnSimius.setChecked(gameMode == GameMode.VINDICETIS_EX_SIMIUS);
+        btnTempus.setChecked(gameMode == GameMode.TEMPUS_FUGIT);
+        btnMachina.setChecked(!btnSimius.isChecked()
+                && !btnTempus.isChecked());
 
-        changeBackground(gameConfig.getGameMode());
+        changeBackground(gameMode);
     }
 
     /**
@@ -120,7 +116,7 @@ public final class GameModeScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new DisciplinesScreen(game));
+                game.setScreen(DisciplinesScreen.class);
             }
         });
 
@@ -131,7 +127,7 @@ public final class GameModeScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(MenuScreen.class);
             }
         });
 
@@ -157,33 +153,20 @@ public final class GameModeScreen extends AbstractScreen {
         tableGameModes.setFillParent(true);
 
         // Image buttons instantiation
-        final Texture machinaUp = new Texture(
-                Gdx.files.internal("images/buttons/machina_btn_up.png"));
-        final Texture machinaDown = new Texture(
-                Gdx.files.internal("images/buttons/machina_btn_down.png"));
-        final Texture simiusUp = new Texture(
-                Gdx.files.internal("images/buttons/simius_btn_up.png"));
-        final Texture simiusDown = new Texture(
-                Gdx.files.internal("images/buttons/simius_btn_down.png"));
-        final Texture tempusUp = new Texture(
-                Gdx.files.internal("images/buttons/tempus_btn_up.png"));
-        final Texture tempusDown = new Texture(
-                Gdx.files.internal("images/buttons/tempus_btn_down.png"));
 
         // Drawable objects
-        final Drawable machinaDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(machinaUp));
-        final Drawable machinaDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(
-                        machinaDown));
-        final Drawable simiusDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(simiusUp));
-        final Drawable simiusDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(simiusDown));
-        final Drawable tempusDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(tempusUp));
-        final Drawable tempusDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(tempusDown));
+        final Drawable machinaDrawableUp = getDrawable(
+                "images/buttons/machina_btn_up.png");
+        final Drawable machinaDrawableDown = getDrawable(
+                "images/buttons/machina_btn_down.png");
+        final Drawable simiusDrawableUp = getDrawable(
+                "images/buttons/simius_btn_up.png");
+        final Drawable simiusDrawableDown = getDrawable(
+                "images/buttons/simius_btn_down.png");
+        final Drawable tempusDrawableUp = getDrawable(
+                "images/buttons/tempus_btn_up.png");
+        final Drawable tempusDrawableDown = getDrawable(
+                "images/buttons/tempus_btn_down.png");
 
         // Styles for the buttons
         final ImageButton.ImageButtonStyle machinaStyle = new ImageButton.ImageButtonStyle(
@@ -274,10 +257,7 @@ public final class GameModeScreen extends AbstractScreen {
      *            The game mode.
      */
     private void changeBackground(final GameMode gameMode) {
-        final Texture texture = new Texture(
-                Gdx.files.internal(gameMode.getTextImg()));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(
-                texture));
+        final Drawable drawable = getDrawable(gameMode.getTextImg());
         mainTable.setBackground(drawable);
         gameConfig.setGameMode(gameMode);
     }
@@ -17,23 +17,19 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.services.music.TriviazoMusic;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
 
 /**
- * The game over screen. It has two different constructors for different game
- * mode.
+ * The game over screen. It has two different setters for different game
+ * mode, one of them must be called before showing it.
  * 
  * @author Sergio Torró
  * @since 03/06/2013
@@ -44,40 +40,51 @@ public class GameOverScreen extends AbstractScreen {
      * The main table of the super class.
      */
     private Table mainTable;
-    private final Integer correct;
-    private final Integer incorrect;
+    private Label lblMessage;
+    private Label lblScore;
+    private Integer correct;
+    private Integer incorrect;
     private Integer score;
 
-    public GameOverScreen(final TriviazoGame game, final int correct,
-            final int incorrect) {
+    public GameOverScreen(final TriviazoGame game) {
         super(game);
-        game.getMusicManager().play(TriviazoMusic.MAIN);
-        this.correct = correct;
-        this.incorrect = incorrect;
+    }
+
+    /**
+     * Sets the result of a game counted by correct and incorrect answers.
+     */
+    public final void setResult(final int pCorrect, final int pIncorrect) {
+        correct = pCorrect;
+        incorrect = pIncorrect;
         score = null;
     }
 
-    public GameOverScreen(final TriviazoGame game, final int score) {
-        super(game);
-        game.getMusicManager().play(TriviazoMusic.MAIN);
-        this.score = score;
+    /**
+     * Sets the result of a game counted by score.
+     */
+    public final void setScore(final int pScore) {
+        score = pScore;
         correct = null;
         incorrect = null;
     }
 
     @Override
-    public final void show() {
-        super.show();
-        game.getSoundManager().play(TriviazoSound.CHIMP);
+    protected final void build() {
         mainTable = super.getTable();
 
-        final Texture texture = new Texture(
-                Gdx.files.internal("images/game_over.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(
-                texture));
+        final Drawable drawable = getDrawable("images/game_over.png");
         mainTable.setBackground(drawable);
 
         createButton();
+        createMessageTable();
+        createScoreTable();
+    }
+
+    @Override
+    protected final void reset() {
+        game.getMusicManager().play(TriviazoMusic.MAIN);
+        game.getSoundManager().play(TriviazoSound.CHIMP);
+
         if (score == null) {
             createMessage();
         } else {
@@ -86,11 +93,28 @@ public class GameOverScreen extends AbstractScreen {
         createFinalScore();
     }
 
-    private void createMessage() {
-        String message;
+    private void createMessageTable() {
         final Table subTable = new Table(getSkin());
         subTable.setFillParent(true);
 
+        lblMessage = new Label("", getSkin());
+        subTable.add(lblMessage);
+        subTable.bottom().padBottom(100F);
+        stage.addActor(subTable);
+    }
+
+    private void createScoreTable() {
+        final Table scoreTable = new Table(getSkin());
+        scoreTable.setFillParent(true);
+        lblScore = new Label("", getSkin());
+        scoreTable.add(lblScore);
+        scoreTable.bottom().left().pad(0, 10, 10, 0);
+        stage.addActor(scoreTable);
+    }
+
+    private void createMessage() {
+        String message;
+
         if (incorrect == 0) {
             message = "Estas hecho un campeón, has acertado todas las preguntas!! Ook! Oook! Ooook!!";
         } else if (correct == 0) {
@@ -103,16 +127,11 @@ public class GameOverScreen extends AbstractScreen {
             message = "Has fallado más que acertado, eres una mente privilegiada.";
         }
 
-        final Label lblMessage = new Label(message, getSkin());
-        subTable.add(lblMessage);
-        subTable.bottom().padBottom(100F);
-        stage.addActor(subTable);
+        lblMessage.setText(message);
     }
 
     private void createMessageForScore() {
         String message;
-        final Table subTable = new Table(getSkin());
-        subTable.setFillParent(true);
 
         if (score == 0) {
             message = "Cero pelotero, eres una mente privilegiada.";
@@ -124,10 +143,7 @@ public class GameOverScreen extends AbstractScreen {
             message = "No está mal la cosa, pero es mejorable.";
         }
 
-        final Label lblMessage = new Label(message, getSkin());
-        subTable.add(lblMessage);
-        subTable.bottom().padBottom(100F);
-        stage.addActor(subTable);
+        lblMessage.setText(message);
     }
 
     private void createFinalScore() {
@@ -138,13 +154,9 @@ public class GameOverScreen extends AbstractScreen {
             }
         }
 
-        game.getDatabase().addScoreForGameMode(gameConfig.getGameMode(), score);
-        final Table scoreTable = new Table(getSkin());
-        scoreTable.setFillParent(true);
-        final Label lblScore = new Label("Puntuación final: " + score, getSkin());
-        scoreTable.add(lblScore);
-        scoreTable.bottom().left().pad(0, 10, 10, 0);
-        stage.addActor(scoreTable);
+        game.getAsyncDatabase().addScoreForGameMode(gameConfig.getGameMode(),
+                score, null);
+        lblScore.setText("Puntuación final: " + score);
     }
 
     private void createButton() {
@@ -161,7 +173,7 @@ public class GameOverScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(MenuScreen.class);
             }
         });
 
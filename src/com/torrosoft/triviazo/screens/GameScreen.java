@@ -17,35 +17,32 @@
 
 package com.torrosoft.triviazo.screens;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Random;
-
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
+import com.torrosoft.triviazo.core.GameClock;
+import com.torrosoft.triviazo.core.GameEngine;
+import com.torrosoft.triviazo.core.GameSession;
+import com.torrosoft.triviazo.core.data.AsyncDatabase.Callback;
+import com.torrosoft.triviazo.core.data.QuestionIndex;
 import com.torrosoft.triviazo.core.data.wrappers.Question;
-import com.torrosoft.triviazo.core.enums.Difficulty;
-import com.torrosoft.triviazo.core.enums.Discipline;
 import com.torrosoft.triviazo.core.enums.GameMode;
 import com.torrosoft.triviazo.core.enums.Language;
 import com.torrosoft.triviazo.services.music.TriviazoMusic;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
+import com.torrosoft.triviazo.services.ui.UiManager;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
+import com.torrosoft.triviazo.util.TextLayoutCache;
 
 /**
- * Abstract class witch defines the default behavior of the game screen.
+ * Abstract class witch defines the default behavior of the game screen. The
+ * rules are in the {@link GameEngine}, the screen only draws its state and
+ * feeds it with the answers and the clock.
  * 
  * @author Sergio Torró
  * @since 04/06/2013
@@ -53,104 +50,211 @@ import com.torrosoft.triviazo.util.DefaultButtonListener;
  */
 public abstract class GameScreen extends AbstractScreen {
     private static final int BUTTON_SIZE_MOD = 60;
-    protected static final int QUESTION_VALUE = 50;
+    /**
+     * The width of the lines of the statement, as wide as two answers.
+     */
+    private static final float STATEMENT_WIDTH =
+            2 * (BUTTON_WIDTH + BUTTON_SIZE_MOD);
+    /**
+     * The width of the lines of an answer, the button minus its margins.
+     */
+    private static final float ANSWER_WIDTH =
+            BUTTON_WIDTH + BUTTON_SIZE_MOD - 20;
     /**
      * The main skin used by all the UI components.
      */
     protected final Skin mainSkin;
 
     /**
-     * The questions of the current game.
+     * False until the questions are loaded, the answers are ignored meanwhile.
+     */
+    private boolean loaded = false;
+
+    /**
+     * The session of the current game, it decides the deck and the order of
+     * the answers and records the answers given.
+     */
+    protected GameSession session;
+    /**
+     * The rules of the current game, null until the questions are loaded.
      */
-    protected final List<Question> questions = new ArrayList<Question>();
+    protected GameEngine engine;
     /**
-     * The current index of the list.
+     * The time of the game, moved by the frames while the questions are on
+     * the screen. The engine decides when the time runs out.
      */
-    protected int index = 0;
-    protected int correct = 0;
-    protected int incorrect = 0;
+    private final GameClock clock = new GameClock();
+    /**
+     * The seconds on the timer label, it's only updated when they change.
+     */
+    private int secondsShown;
+    private boolean ended = false;
 
     /**
      * The main table of the super class.
      */
     private Table mainTable;
+    private Table tableUI;
+    private Table tableScore;
+    private Table timerTable;
 
+    /*
+     * The widgets come from the pools of the UiManager on show and go back on
+     * hide, the game screens of the three modes share them.
+     */
     private Label lblQuestion;
     private TextButton btnAns1;
     private TextButton btnAns2;
     private TextButton btnAns3;
     private TextButton btnAns4;
+    private TextLayoutCache statementLayouts;
+    private TextLayoutCache answerLayouts;
     protected Label lblCorrect;
     protected Label lblIncorrect;
     protected Label lblTimer;
 
-    protected int maxQuestions;
-
     public GameScreen(final TriviazoGame game) {
         super(game);
-        game.getMusicManager().play(TriviazoMusic.IN_GAME);
         mainSkin = super.getSkin();
     }
 
     /**
-     * The method for show the UI. It handles the main {@link Table}.
+     * The method for create the UI. It handles the main {@link Table}.
      */
     @Override
-    public final void show() {
-        super.show();
+    protected final void build() {
         mainTable = super.getTable();
 
-        final Texture texture = new Texture(
-                Gdx.files.internal("images/default.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(
-                texture));
+        final Drawable drawable = getDrawable("images/default.png");
         mainTable.setBackground(drawable);
 
+        tableUI = createTable();
+        tableUI.center();
+        tableScore = createTable();
+        tableScore.bottom().left().pad(0, 10, 10, 0);
+        timerTable = createTable();
+        timerTable.top().right().pad(0, 0, 10, 10);
+    }
+
+    /**
+     * It starts a new game with the current configuration.
+     */
+    @Override
+    protected final void reset() {
+        game.getMusicManager().play(getMusic(gameConfig.getGameMode()));
+        loaded = false;
+        ended = false;
+        session = null;
+        engine = null;
+        clock.reset();
+        secondsShown = -1;
+
         createUI();
         createScoreboard();
         createTimerTable();
         loadQuestions();
+    }
+
+    /**
+     * It gives the widgets back, the game is over.
+     */
+    @Override
+    public final void hide() {
+        ended = true;
+
+        final UiManager ui = game.getUiManager();
+        btnAns1.removeListener(btnListener);
+        btnAns2.removeListener(btnListener);
+        btnAns3.removeListener(btnListener);
+        btnAns4.removeListener(btnListener);
+        ui.free(btnAns1);
+        ui.free(btnAns2);
+        ui.free(btnAns3);
+        ui.free(btnAns4);
+        ui.free(lblQuestion);
+        ui.free(lblCorrect);
+        ui.free(lblIncorrect);
+        ui.free(lblTimer);
+        tableUI.clearChildren();
+        tableScore.clearChildren();
+        timerTable.clearChildren();
+    }
+
+    /**
+     * Moves the game clock with the time of the frame.
+     */
+    @Override
+    protected final void update(final float delta) {
+        if (!loaded || ended) return;
+        clock.advance(delta);
+        updateClock(clock.getMillis());
+    }
+
+    /**
+     * The clock stops while the application is paused.
+     */
+    @Override
+    public final void pause() {
+        clock.pause();
+    }
 
-        nextQuestion(); // Start game
+    @Override
+    public final void resume() {
+        clock.resume();
+    }
+
+    /**
+     * @return The music played during a game of the given mode.
+     */
+    public static TriviazoMusic getMusic(final GameMode gameMode) {
+        return (gameMode == GameMode.INTELLECTUS_MACHINA) ? TriviazoMusic.IN_GAME
+                : TriviazoMusic.TENSION_IS_RISING;
+    }
+
+    /**
+     * The game over screen plays the main music.
+     */
+    @Override
+    protected final TriviazoMusic getNextMusic() {
+        return TriviazoMusic.MAIN;
+    }
+
+    private Table createTable() {
+        final Table table = new Table(mainSkin);
+        table.setFillParent(true);
+        stage.addActor(table);
+        return table;
     }
 
     private void createScoreboard() {
-        final Table tableScore = new Table(mainSkin);
-        tableScore.setFillParent(true);
-        lblCorrect = new Label("", mainSkin);
-        lblIncorrect = new Label("", mainSkin);
-        setScore(null);
+        lblCorrect = game.getUiManager().obtainLabel();
+        lblIncorrect = game.getUiManager().obtainLabel();
         tableScore.add(lblCorrect);
         tableScore.row();
         tableScore.add(lblIncorrect);
-        tableScore.bottom().left().pad(0, 10, 10, 0);
-        stage.addActor(tableScore);
     }
 
     private void createTimerTable() {
-        final Table timerTable = new Table(mainSkin);
-        timerTable.setFillParent(true);
-        lblTimer = new Label("", mainSkin);
+        lblTimer = game.getUiManager().obtainLabel();
         timerTable.add(lblTimer);
         timerTable.row();
-        timerTable.top().right().pad(0, 0, 10, 10);
-        stage.addActor(timerTable);
         if (gameConfig.getGameMode() == GameMode.INTELLECTUS_MACHINA)
             lblTimer.setVisible(false);
     }
 
     private void createUI() {
-        final Table tableUI = new Table(mainSkin);
-        tableUI.setFillParent(true);
-        lblQuestion = new Label("", getSkin());
-        btnAns1 = new TextButton("", getSkin());
+        final UiManager ui = game.getUiManager();
+        lblQuestion = ui.obtainLabel();
+        btnAns1 = ui.obtainTextButton();
         btnAns1.setName("0");
-        btnAns2 = new TextButton("", getSkin());
+        btnAns2 = ui.obtainTextButton();
         btnAns2.setName("1");
-        btnAns3 = new TextButton("", getSkin());
+        btnAns3 = ui.obtainTextButton();
         btnAns3.setName("2");
-        btnAns4 = new TextButton("", getSkin());
+        btnAns4 = ui.obtainTextButton();
         btnAns4.setName("3");
+        statementLayouts = game.getTextLayouts(lblQuestion.getStyle().font);
+        answerLayouts = game.getTextLayouts(btnAns1.getStyle().font);
 
         btnAns1.addListener(btnListener);
         btnAns2.addListener(btnListener);
@@ -173,122 +277,112 @@ public abstract class GameScreen extends AbstractScreen {
         tableUI.row();
         tableUI.add("\n\n").colspan(2);
         tableUI.row();
-        tableUI.center();
-        stage.addActor(tableUI);
     }
 
     /**
-     * It loads all the questions and keeps a certain number of them in
-     * "questions" List (mixed). Never keeps repeated questions.
+     * It loads the question index out of the render thread, if it's not loaded
+     * yet, and starts the game once it's ready.
      */
     private void loadQuestions() {
-        final List<Discipline> selectedDis = new ArrayList<Discipline>();
-        final Iterator<Entry<Discipline, Boolean>> it = gameConfig.getDisciplines()
-                .entrySet().iterator();
-
-        // Get the selected disciplines
-        while (it.hasNext()) {
-            final Map.Entry<Discipline, Boolean> entry = it.next();
-            if (entry.getValue()) selectedDis.add(entry.getKey());
+        game.loadQuestionIndex(new Callback<QuestionIndex>() {
+            @Override
+            public void onResult(final QuestionIndex result) {
+                if (ended) return; // The screen was left meanwhile
+                startGame(result);
+                loaded = true;
+                nextQuestion();
+            }
+        });
+    }
+
+    /**
+     * It starts a new session and the engine with its deck: mixed, balanced
+     * among the selected disciplines, without repeated questions and never
+     * more than the questions available. The clock starts on the next frame.
+     */
+    private void startGame(final QuestionIndex questionIndex) {
+        session = new GameSession(GameSession.newSeed(), Language.es_ES,
+                gameConfig);
+        game.setLastSession(session);
+        if (TriviazoGame.DEBUG_MODE) {
+            Gdx.app.debug(getName(), "Session seed " + session.getSeed());
         }
 
-        final Difficulty difQuestions = (gameConfig.getDifQuestions() == Difficulty.ALL) ? null
-                : gameConfig.getDifQuestions();
+        engine = new GameEngine(gameConfig.getGameMode(), questionIndex,
+                session.deal(questionIndex));
+        updateScore();
+        showSecondsLeft();
+    }
 
-        final List<Question> queList = game.getDatabase().getQuestions(
-                Language.es_ES,
-                difQuestions, selectedDis.get(0));
-        for (int i = 1; i < selectedDis.size(); i++) {
-            queList.addAll(game.getDatabase().getQuestions(Language.es_ES,
-                    difQuestions, selectedDis.get(i)));
+    /**
+     * Sets the timer label, if the game mode has one and the seconds left
+     * have changed.
+     */
+    private void showSecondsLeft() {
+        if (!engine.isTimed()) return;
+        final int seconds = engine.getSecondsLeft();
+        if (seconds != secondsShown) {
+            secondsShown = seconds;
+            lblTimer.setText("Tiempo: " + seconds);
         }
-
-        // Mix questions
-        final Random rnd = new Random(System.currentTimeMillis());
-        final int max = queList.size();
-        int i = 0;
-
-        maxQuestions = (gameConfig.getGameMode() != GameMode.TEMPUS_FUGIT) ?
-                gameConfig.getNumQuestions() : max;
-
-        do {
-            Question toAdd = queList.get(rnd.nextInt(max));
-            if (!hasQuestion(toAdd)) {
-                questions.add(toAdd);
-                i += 1;
-            } else {
-                rnd.setSeed(System.currentTimeMillis() * rnd.nextInt());
-                toAdd = queList.get(rnd.nextInt(max));
-            }
-        } while (i < maxQuestions);
     }
 
     /**
-     * Checks if the question it's already in the list.
+     * Moves the clock of the engine to the current time.
      * 
-     * @param question
-     *            The question to check.
-     * @return True if it exists.
+     * @return False if the game is over.
      */
-    private boolean hasQuestion(final Question question) {
-        boolean res = false;
-        for (final Question que : questions) {
-            if (que.getPkid().equals(question.getPkid())) {
-                res = true;
-                break;
-            }
+    private boolean updateClock(final long millis) {
+        final int position = engine.getPosition();
+        engine.tick((millis * 1000000L) - engine.getElapsedNanos());
+        if (engine.isOver()) {
+            endGame(millis);
+            return false;
         }
-        return res;
+
+        showSecondsLeft();
+        if (engine.getPosition() != position) { // Time out
+            updateScore();
+            nextQuestion();
+        }
+        return true;
     }
 
     /**
-     * Loads the question of the list pointed by index.
+     * Loads the current question of the engine.
      */
     protected final void nextQuestion() {
-        if (index < maxQuestions) {
-            final Question current = questions.get(index);
-
-            lblQuestion.setText(formatStr(current.getStatement(), 90));
-            final String[] answers = current.getAnswers();
-            btnAns1.setText(answers[0].length() > 40 ? formatStr(answers[0], 40)
-                    : answers[0]);
-            btnAns2.setText(answers[1].length() > 40 ? formatStr(answers[1], 40)
-                    : answers[1]);
-            btnAns3.setText(answers[2].length() > 40 ? formatStr(answers[2], 40)
-                    : answers[2]);
-            btnAns4.setText(answers[3].length() > 40 ? formatStr(answers[3], 40)
-                    : answers[3]);
+        final Question current = engine.getCurrent();
+        if (current != null) {
+            final int id = engine.getCurrentId();
+            final int[] order = session.getAnswerOrder(engine.getPosition());
+
+            lblQuestion.setText(statementLayouts.get(id, 0, STATEMENT_WIDTH,
+                    current.getStatement()));
+            setAnswer(btnAns1, current, id, order[0]);
+            setAnswer(btnAns2, current, id, order[1]);
+            setAnswer(btnAns3, current, id, order[2]);
+            setAnswer(btnAns4, current, id, order[3]);
         } else {
-            gameOver();
+            endGame(clock.getMillis());
         }
     }
 
     /**
-     * This algorithm takes care of formatting a string to make it pretty on the
-     * screen.
-     * 
-     * @param str
-     *            The string to format.
-     * @param nChars
-     *            The maximum number of characters per line.
-     * @return The formatted string.
+     * Closes the session and leaves the screen, the clock isn't moved any
+     * more.
      */
-    private String formatStr(final String str, final int nChars) {
-        final StringBuilder sb = new StringBuilder(str);
-        final int ite = sb.length() / nChars;
-
-        if (ite > 0) {
-            for (int i = 0; i < ite; i++) {
-                int pos = (i + 1) * nChars;
-                while (!sb.substring(pos, pos + 1).equals(" ")) {
-                    --pos;
-                }
-                sb.insert(pos, '\n');
-                sb.delete(pos + 1, pos + 2); // Deletes the space
-            }
-        } else return str;
+    private void endGame(final long millis) {
+        if (ended) return;
+        ended = true;
+        session.finish(millis);
+        gameOver();
+    }
 
-        return sb.toString();
+    private void setAnswer(final TextButton btn, final Question question,
+            final int id, final int answer) {
+        btn.setText(answerLayouts.get(id, 1 + answer, ANSWER_WIDTH,
+                question.getAnswers()[answer]));
     }
 
     /**
@@ -299,31 +393,24 @@ public abstract class GameScreen extends AbstractScreen {
         public void touchUp(final InputEvent event, final float x,
                 final float y, final int pointer, final int button) {
             super.touchUp(event, x, y, pointer, button);
+            if (!loaded || ended) return;
             game.getSoundManager().play(TriviazoSound.CLICK);
-            final int resp = Integer.parseInt(event.getListenerActor().getName());
-            checkQuestions(resp);
-            setScore(null);
-            index += 1;
+            final long millis = clock.getMillis();
+            // The time may have run out since the last clock update
+            if (!updateClock(millis)) return;
+
+            final int slot = Integer.parseInt(event.getListenerActor().getName());
+            final int resp = session.answer(engine.getPosition(), slot, millis);
+            engine.answer(resp, millis * 1000000L);
+            updateScore();
             nextQuestion();
         }
     };
 
     /**
-     * Checks the current question with the passed integer.
-     * 
-     * @param resp
-     *            The passed integer.
-     */
-    public abstract void checkQuestions(final int resp);
-
-    /**
-     * It sets the score of the game. If the parameter is null the score must be
-     * recalculated.
-     * 
-     * @param sco
-     *            The new score if applicable.
+     * It shows the score of the {@link #engine}.
      */
-    public abstract void setScore(final Integer sco);
+    public abstract void updateScore();
 
     /**
      * The game finish when this method is called.
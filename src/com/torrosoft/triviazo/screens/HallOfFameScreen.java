@@ -17,16 +17,13 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
+import com.torrosoft.triviazo.core.data.AsyncDatabase.Callback;
 import com.torrosoft.triviazo.core.enums.GameMode;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
@@ -39,17 +36,19 @@ import com.torrosoft.triviazo.util.DefaultButtonListener;
  * @version 0.1
  */
 public final class HallOfFameScreen extends AbstractScreen {
+    /**
+     * The score of each game mode, by ordinal.
+     */
+    private final Label[] lblScores = new Label[GameMode.values().length];
+
     public HallOfFameScreen(final TriviazoGame game) {
         super(game);
     }
 
     @Override
-    public void show() {
-        super.show();
+    protected void build() {
         final Table table = super.getTable();
-        final Texture img = new Texture(
-                Gdx.files.internal("images/hall_of_fame.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(img));
+        final Drawable drawable = getDrawable("images/hall_of_fame.png");
         table.setBackground(drawable);
 
         createButtonsTable();
@@ -62,16 +61,34 @@ public final class HallOfFameScreen extends AbstractScreen {
         tableScore.setFillParent(true);
 
         for (final GameMode gm : GameMode.values()) {
-            final String str = gm.getName() + " --> "
-                    + game.getDatabase().getScoreForGameMode(gm);
-            final Label lblGameMode = new Label(str, getSkin());
-            tableScore.add(lblGameMode);
+            lblScores[gm.ordinal()] = new Label("", getSkin());
+            tableScore.add(lblScores[gm.ordinal()]);
             tableScore.row();
         }
 
         stage.addActor(tableScore);
     }
 
+    /**
+     * The scores may have changed since the last time, they are read again.
+     */
+    @Override
+    protected void reset() {
+        for (final GameMode gm : GameMode.values()) {
+            final Label lblGameMode = lblScores[gm.ordinal()];
+            lblGameMode.setText(gm.getName() + " --> ...");
+
+            // The label is filled when the score is read
+            game.getAsyncDatabase().getScoreForGameMode(gm,
+                    new Callback<Integer>() {
+                        @Override
+                        public void onResult(final Integer result) {
+                            lblGameMode.setText(gm.getName() + " --> " + result);
+                        }
+                    });
+        }
+    }
+
     private void createButtonsTable() {
         final Table tableButtonBack = new Table(getSkin());
         tableButtonBack.setFillParent(true);
@@ -84,7 +101,7 @@ public final class HallOfFameScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(MenuScreen.class);
             }
         });
 
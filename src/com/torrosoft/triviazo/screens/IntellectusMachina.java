@@ -33,19 +33,15 @@ public class IntellectusMachina extends GameScreen {
     }
 
     @Override
-    public final void setScore(final Integer sco) {
-        lblCorrect.setText("Correctas: " + correct);
-        lblIncorrect.setText("Incorrectas: " + incorrect);
+    public final void updateScore() {
+        lblCorrect.setText("Correctas: " + engine.getCorrect());
+        lblIncorrect.setText("Incorrectas: " + engine.getIncorrect());
     }
 
     @Override
     public final void gameOver() {
-        game.setScreen(new GameOverScreen(game, correct, incorrect));
-    }
-
-    @Override
-    public final void checkQuestions(final int resp) {
-        if (questions.get(index).getRight() == resp) correct += 1;
-        else incorrect += 1;
+        game.getScreens().get(GameOverScreen.class).setResult(
+                engine.getCorrect(), engine.getIncorrect());
+        game.setScreen(GameOverScreen.class);
     }
 }
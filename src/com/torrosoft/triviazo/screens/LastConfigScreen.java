@@ -17,19 +17,16 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.core.enums.Difficulty;
 import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.services.music.TriviazoMusic;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
 
@@ -51,6 +48,11 @@ public final class LastConfigScreen extends AbstractScreen {
      */
     private Table mainTable;
 
+    /**
+     * The options of the game mode, laid out on every show.
+     */
+    private Table tableOptions;
+
     private ImageButton btnEasyIA;
     private ImageButton btnNormalIA;
     private ImageButton btnHardIA;
@@ -72,132 +74,97 @@ public final class LastConfigScreen extends AbstractScreen {
     }
 
     /**
-     * The method for show the UI. It handles the main {@link Table}.
+     * The method for create the UI. It handles the main {@link Table}.
      */
     @Override
-    public void show() {
-        super.show();
+    protected void build() {
         mainTable = super.getTable();
 
-        final Texture texture = new Texture(
-                Gdx.files.internal("images/last_config.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(
-                texture));
+        final Drawable drawable = getDrawable("images/last_config.png");
         mainTable.setBackground(drawable);
 
         createButtonsTable();
         createOptionsTable();
+    }
 
-        if (gameConfig.getDifAI() == Difficulty.EASY) {
-            btnEasyIA.setChecked(true);
-        } else if (gameConfig.getDifAI() == Difficulty.NORMAL) {
-            btnNormalIA.setChecked(true);
-        } else if (gameConfig.getDifAI() == Difficulty.HARD) {
-            btnHardIA.setChecked(true);
-        } else if (gameConfig.getDifAI() == Difficulty.INSANE) {
-            btnInsaneIA.setChecked(true);
-        }
-
-        if (gameConfig.getDifQuestions() == Difficulty.EASY) {
-            btnEasyQuestions.setChecked(true);
-        } else if (gameConfig.getDifQuestions() == Difficulty.NORMAL) {
-            btnNormalQuestions.setChecked(true);
-        } else if (gameConfig.getDifQuestions() == Difficulty.HARD) {
-            btnHardQuestions.setChecked(true);
-        } else if (gameConfig.getDifQuestions() == Difficulty.ALL) {
-            btnAllQuestions.setChecked(true);
-        }
+    /**
+     * It shows the options of the game mode and checks the ones of the
+     * current configuration.
+     */
+    @Override
+    protected void reset() {
+        layoutOptionsTable();
+
+        final Difficulty difAI = gameConfig.getDifAI();
+        btnEasyIA.setChecked(difAI == Difficulty.EASY);
+        btnNormalIA.setChecked(difAI == Difficulty.NORMAL);
+        btnHardIA.setChecked(difAI == Difficulty.HARD);
+        btnInsaneIA.setChecked(difAI == Difficulty.INSANE);
+
+        final Difficulty difQuestions = gameConfig.getDifQuestions();
+        btnEasyQuestions.setChecked(difQuestions == Difficulty.EASY);
+        btnNormalQuestions.setChecked(difQuestions == Difficulty.NORMAL);
+        btnHardQuestions.setChecked(difQuestions == Difficulty.HARD);
+        btnAllQuestions.setChecked(difQuestions == Difficulty.ALL);
+
+        final int numQuestions = gameConfig.getNumQuestions();
+        btnTen.setChecked(numQuestions == 10);
+        btnFifteen.setChecked(numQuestions == 15);
+        btnTwenty.setChecked(numQuestions == 20);
+        btnThirty.setChecked(numQuestions == 30);
+    }
 
-        if (gameConfig.getNumQuestions() == 10) {
-            btnTen.setChecked(true);
-        } else if (gameConfig.getNumQuestions() == 15) {
-            btnFifteen.setChecked(true);
-        } else if (gameConfig.getNumQuestions() == 20) {
-            btnTwenty.setChecked(true);
-        } else if (gameConfig.getNumQuestions() == 30) {
-            btnThirty.setChecked(true);
-        }
+    /**
+     * The game of the mode chosen comes next.
+     */
+    @Override
+    protected final TriviazoMusic getNextMusic() {
+        return GameScreen.getMusic(gameConfig.getGameMode());
     }
 
     private void createOptionsTable() {
-        final Table tableOptions = new Table(mainSkin);
+        tableOptions = new Table(mainSkin);
         tableOptions.setFillParent(true);
 
         // Image buttons instantiation
-        final Texture easyUp = new Texture(
-                Gdx.files.internal("images/buttons/easy_btn_up.png"));
-        final Texture easyDown = new Texture(
-                Gdx.files.internal("images/buttons/easy_btn_down.png"));
-        final Texture normalUp = new Texture(
-                Gdx.files.internal("images/buttons/normal_btn_up.png"));
-        final Texture normalDown = new Texture(
-                Gdx.files.internal("images/buttons/normal_btn_down.png"));
-        final Texture hardUp = new Texture(
-                Gdx.files.internal("images/buttons/hard_btn_up.png"));
-        final Texture hardDown = new Texture(
-                Gdx.files.internal("images/buttons/hard_btn_down.png"));
-        final Texture tenUp = new Texture(
-                Gdx.files.internal("images/buttons/ten_btn_up.png"));
-        final Texture tenDown = new Texture(
-                Gdx.files.internal("images/buttons/ten_btn_down.png"));
-        final Texture fifteenUp = new Texture(
-                Gdx.files.internal("images/buttons/fifteen_btn_up.png"));
-        final Texture fifteenDown = new Texture(
-                Gdx.files.internal("images/buttons/fifteen_btn_down.png"));
-        final Texture twentyUp = new Texture(
-                Gdx.files.internal("images/buttons/twenty_btn_up.png"));
-        final Texture twentyDown = new Texture(
-                Gdx.files.internal("images/buttons/twenty_btn_down.png"));
-        final Texture thirtyUp = new Texture(
-                Gdx.files.internal("images/buttons/thirty_btn_up.png"));
-        final Texture thirtyDown = new Texture(
-                Gdx.files.internal("images/buttons/thirty_btn_down.png"));
-        final Texture allUp = new Texture(
-                Gdx.files.internal("images/buttons/all_btn_up.png"));
-        final Texture allDown = new Texture(
-                Gdx.files.internal("images/buttons/all_btn_down.png"));
-        final Texture insaneUp = new Texture(
-                Gdx.files.internal("images/buttons/insane_btn_up.png"));
-        final Texture insaneDown = new Texture(
-                Gdx.files.internal("images/buttons/insane_btn_down.png"));
 
         // Drawable objects
-        final Drawable easyDrawableUp = new TextureRegionDrawable(new TextureRegion(
-                easyUp));
-        final Drawable easyDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(easyDown));
-        final Drawable normalDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(normalUp));
-        final Drawable normalDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(normalDown));
-        final Drawable hardDrawableUp = new TextureRegionDrawable(new TextureRegion(
-                hardUp));
-        final Drawable hardDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(hardDown));
-        final Drawable tenDrawableUp = new TextureRegionDrawable(new TextureRegion(
-                tenUp));
-        final Drawable tenDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(tenDown));
-        final Drawable fifteenDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(fifteenUp));
-        final Drawable fifteenDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(fifteenDown));
-        final Drawable twentyDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(twentyUp));
-        final Drawable twentyDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(twentyDown));
-        final Drawable allDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(allUp));
-        final Drawable allDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(allDown));
-        final Drawable insaneDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(insaneUp));
-        final Drawable insaneDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(insaneDown));
-        final Drawable thirtyDrawableUp = new TextureRegionDrawable(
-                new TextureRegion(thirtyUp));
-        final Drawable thirtyDrawableDown = new TextureRegionDrawable(
-                new TextureRegion(thirtyDown));
+        final Drawable easyDrawableUp = getDrawable(
+                "images/buttons/easy_btn_up.png");
+        final Drawable easyDrawableDown = getDrawable(
+                "images/buttons/easy_btn_down.png");
+        final Drawable normalDrawableUp = getDrawable(
+                "images/buttons/normal_btn_up.png");
+        final Drawable normalDrawableDown = getDrawable(
+                "images/buttons/normal_btn_down.png");
+        final Drawable hardDrawableUp = getDrawable(
+                "images/buttons/hard_btn_up.png");
+        final Drawable hardDrawableDown = getDrawable(
+                "images/buttons/hard_btn_down.png");
+        final Drawable tenDrawableUp = getDrawable(
+                "images/buttons/ten_btn_up.png");
+        final Drawable tenDrawableDown = getDrawable(
+                "images/buttons/ten_btn_down.png");
+        final Drawable fifteenDrawableUp = getDrawable(
+                "images/buttons/fifteen_btn_up.png");
+        final Drawable fifteenDrawableDown = getDrawable(
+                "images/buttons/fifteen_btn_down.png");
+        final Drawable twentyDrawableUp = getDrawable(
+                "images/buttons/twenty_btn_up.png");
+        final Drawable twentyDrawableDown = getDrawable(
+                "images/buttons/twenty_btn_down.png");
+        final Drawable allDrawableUp = getDrawable(
+                "images/buttons/all_btn_up.png");
+        final Drawable allDrawableDown = getDrawable(
+                "images/buttons/all_btn_down.png");
+        final Drawable insaneDrawableUp = getDrawable(
+                "images/buttons/insane_btn_up.png");
+        final Drawable insaneDrawableDown = getDrawable(
+                "images/buttons/insane_btn_down.png");
+        final Drawable thirtyDrawableUp = getDrawable(
+                "images/buttons/thirty_btn_up.png");
+        final Drawable thirtyDrawableDown = getDrawable(
+                "images/buttons/thirty_btn_down.png");
 
         // Styles for the buttons
         final ImageButton.ImageButtonStyle easyStyle = new ImageButton.ImageButtonStyle(
@@ -451,6 +418,15 @@ public final class LastConfigScreen extends AbstractScreen {
             }
         });
 
+        tableOptions.center();
+        stage.addActor(tableOptions);
+    }
+
+    /**
+     * It fills the options table with the options of the game mode.
+     */
+    private void layoutOptionsTable() {
+        tableOptions.clearChildren();
         // tableOptions.add("Dificultad de la Inteligencia Artificial").colspan(4);
         // tableOptions.row();
         // tableOptions.add(btnEasyIA);
@@ -487,9 +463,6 @@ public final class LastConfigScreen extends AbstractScreen {
             tableOptions.add(btnTwenty);
             tableOptions.add(btnThirty);
         } else gameConfig.setNumQuestions(30);
-
-        tableOptions.center();
-        stage.addActor(tableOptions);
     }
 
     /**
@@ -512,11 +485,9 @@ public final class LastConfigScreen extends AbstractScreen {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
                 if (gameConfig.getGameMode() == GameMode.INTELLECTUS_MACHINA) {
-                    game.setScreen(new IntellectusMachina(game));
-                } else if (gameConfig.getGameMode() == GameMode.TEMPUS_FUGIT) {
-                    game.setScreen(new TempusFugit(game));
-                } else if (gameConfig.getGameMode() == GameMode.VINDICETIS_EX_SIMIUS) {
-                    game.setScreen(new VindicetisExSimius(game));
+                    game.setScreen(IntellectusMachina.class);
+                } else {
+                    game.setScreen(TimedGameScreen.class);
                 }
 
             }
@@ -528,7 +499,7 @@ public final class LastConfigScreen extends AbstractScreen {
                     final float y, final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new DisciplinesScreen(game));
+                game.setScreen(DisciplinesScreen.class);
             }
         });
 
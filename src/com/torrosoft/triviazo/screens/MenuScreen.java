@@ -17,14 +17,10 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
 import com.torrosoft.triviazo.util.DefaultButtonListener;
@@ -48,13 +44,10 @@ public final class MenuScreen extends AbstractScreen {
     }
 
     @Override
-    public void show() {
-        super.show();
-
+    protected void build() {
         // retrieve the default table actor
         final Table table = super.getTable();
-        final Texture img = new Texture(Gdx.files.internal("images/menu.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(img));
+        final Drawable drawable = getDrawable("images/menu.png");
         table.setBackground(drawable);
 
         table.pad(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
@@ -73,7 +66,7 @@ public final class MenuScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new GameModeScreen(game));
+                game.setScreen(GameModeScreen.class);
             }
         });
         table.add(startGameButton).size(BUTTON_WIDTH, BUTTON_HEIGHT).uniform()
@@ -91,7 +84,7 @@ public final class MenuScreen extends AbstractScreen {
                 game.getSoundManager().play(TriviazoSound.CLICK);
                 // TODO multiPlayerButton
                 // game.setScreen(new GameOverScreen(game, 5, 8));
-                game.setScreen(new TempusFugit(game));
+                game.setScreen(TimedGameScreen.class);
             }
         });
         // table.add(multiPlayerButton).size(BUTTON_WIDTH,
@@ -106,7 +99,7 @@ public final class MenuScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new HallOfFameScreen(game));
+                game.setScreen(HallOfFameScreen.class);
             }
         });
         table.add(hallOfFameButton).size(BUTTON_WIDTH, BUTTON_HEIGHT).uniform()
@@ -121,7 +114,7 @@ public final class MenuScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new PreferencesScreen(game));
+                game.setScreen(PreferencesScreen.class);
             }
         });
         table.add(optionsButton).uniform().fill().spaceBottom(BUTTON_SPACING);
@@ -135,7 +128,7 @@ public final class MenuScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new AboutScreen(game));
+                game.setScreen(AboutScreen.class);
             }
         });
         table.add(creditsButton).uniform().fill();
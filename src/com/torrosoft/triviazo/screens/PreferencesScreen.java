@@ -17,9 +17,6 @@
 
 package com.torrosoft.triviazo.screens;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
@@ -30,7 +27,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.services.music.TriviazoMusic;
 import com.torrosoft.triviazo.services.music.TriviazoSound;
@@ -50,26 +46,18 @@ public final class PreferencesScreen extends AbstractScreen {
     }
 
     @Override
-    public void show() {
-        super.show();
-
+    protected void build() {
         final Table table = super.getTable();
-        final Texture img = new Texture(
-                Gdx.files.internal("images/preferencias.png"));
-        final Drawable drawable = new TextureRegionDrawable(new TextureRegion(img));
+        final Drawable drawable = getDrawable("images/preferencias.png");
 
         table.setBackground(drawable);
         table.defaults().spaceBottom(30F);
         table.columnDefaults(0).padRight(20F);
 
-        final Texture chCheckedTex = new Texture(
-                Gdx.files.internal("images/buttons/chChecked.png"));
-        final Texture chUncheckedTex = new Texture(
-                Gdx.files.internal("images/buttons/chUnchecked.png"));
-        final Drawable chCheckedDraw = new TextureRegionDrawable(new TextureRegion(
-                chCheckedTex));
-        final Drawable chUncheckedDraw = new TextureRegionDrawable(
-                new TextureRegion(chUncheckedTex));
+        final Drawable chCheckedDraw = getDrawable(
+                "images/buttons/chChecked.png");
+        final Drawable chUncheckedDraw = getDrawable(
+                "images/buttons/chUnchecked.png");
         final ImageButton.ImageButtonStyle checkStyle = new ImageButton.ImageButtonStyle(
                 chUncheckedDraw, chCheckedDraw, chCheckedDraw, chUncheckedDraw,
                 chCheckedDraw,
@@ -141,7 +129,7 @@ public final class PreferencesScreen extends AbstractScreen {
                     final int pointer, final int button) {
                 super.touchUp(event, x, y, pointer, button);
                 game.getSoundManager().play(TriviazoSound.CLICK);
-                game.setScreen(new MenuScreen(game));
+                game.setScreen(MenuScreen.class);
             }
 
             @Override
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.screens;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.torrosoft.triviazo.TriviazoGame;
+
+/**
+ * This class keeps the screens of the game, one of each class, so going back
+ * and forth among them doesn't build their actors again. A screen is created
+ * the first time it's asked for and lives until it's disposed here.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class ScreenRegistry implements Disposable {
+    private final TriviazoGame game;
+    private final ObjectMap<Class<?>, AbstractScreen> screens =
+            new ObjectMap<Class<?>, AbstractScreen>();
+
+    /**
+     * Default ctor.
+     * 
+     * @param pGame
+     *            The game the screens belong to.
+     */
+    public ScreenRegistry(final TriviazoGame pGame) {
+        game = pGame;
+    }
+
+    /**
+     * Gets a screen, creating it if needed. The class needs a public
+     * constructor which gets the {@link TriviazoGame}.
+     * 
+     * @param type
+     *            The class of the screen.
+     */
+    public <T extends AbstractScreen> T get(final Class<T> type) {
+        AbstractScreen screen = screens.get(type);
+        if (screen == null) {
+            screen = create(type);
+            screens.put(type, screen);
+        }
+
+        return type.cast(screen);
+    }
+
+    /**
+     * Disposes a screen which won't be shown again, like the splash screen.
+     * It must not be the current screen.
+     * 
+     * @param type
+     *            The class of the screen.
+     */
+    public void dispose(final Class<? extends AbstractScreen> type) {
+        final AbstractScreen screen = screens.remove(type);
+        if (screen != null) {
+            screen.dispose();
+        }
+    }
+
+    /**
+     * @return The number of screens alive.
+     */
+    public int size() {
+        return screens.size;
+    }
+
+    @Override
+    public void dispose() {
+        for (final AbstractScreen screen : screens.values()) {
+            screen.dispose();
+        }
+        screens.clear();
+    }
+
+    private <T extends AbstractScreen> T create(final Class<T> type) {
+        try {
+            return type.getConstructor(TriviazoGame.class).newInstance(game);
+        } catch (final Exception e) {
+            throw new GdxRuntimeException("Can't create the screen "
+                    + type.getSimpleName(), e);
+        }
+    }
+}
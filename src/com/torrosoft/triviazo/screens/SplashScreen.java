@@ -22,13 +22,9 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeIn;
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeOut;
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Scaling;
 import com.torrosoft.triviazo.TriviazoGame;
 import com.torrosoft.triviazo.services.music.TriviazoMusic;
@@ -49,14 +45,13 @@ public final class SplashScreen extends AbstractScreen {
         super(game);
     }
 
+    /**
+     * The splash is shown once, it's disposed when the menu comes up.
+     */
     @Override
-    public void show() {
-        super.show();
-
+    protected void build() {
         game.getSoundManager().play(TriviazoSound.CHIMP);
-        final Texture img = new Texture(Gdx.files.internal("images/splash1.png"));
-        final Drawable splashDrawable = new TextureRegionDrawable(new TextureRegion(
-                img));
+        final Drawable splashDrawable = getDrawable("images/splash1.png");
 
         // here we create the splash image actor; its size is set when the
         // resize() method gets called
@@ -74,17 +69,16 @@ public final class SplashScreen extends AbstractScreen {
                     public boolean act(final float delta) {
                         // Now I change the splash image and repeat the process
                         game.getMusicManager().play(TriviazoMusic.MAIN);
-                        final Texture img = new Texture(Gdx.files
-                                .internal("images/splash2.png"));
-                        splashImage.setDrawable(new TextureRegionDrawable(
-                                new TextureRegion(img)));
+                        splashImage.setDrawable(getDrawable("images/splash2.png"));
                         splashImage.addAction(sequence(fadeIn(0.75F), delay(2F),
                                 fadeOut(0.75F),
                                 new Action() {
                                     @Override
                                     public boolean act(final float delta) {
                                         // Finally go to the menu screen
-                                        game.setScreen(new MenuScreen(game));
+                                        game.setScreen(MenuScreen.class);
+                                        game.getScreens().dispose(
+                                                SplashScreen.class);
                                         return false;
                                     }
                                 }));
@@ -96,4 +90,12 @@ public final class SplashScreen extends AbstractScreen {
         // and finally we add the actor to the stage
         stage.addActor(splashImage);
     }
+
+    /**
+     * The menu plays the main music.
+     */
+    @Override
+    protected TriviazoMusic getNextMusic() {
+        return TriviazoMusic.MAIN;
+    }
 }
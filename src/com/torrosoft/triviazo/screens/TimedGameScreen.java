@@ -0,0 +1,49 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.screens;
+
+import com.torrosoft.triviazo.TriviazoGame;
+
+/**
+ * Game Screen for the timed game modes, Tempus fugit and Vindicetis ex
+ * simius. Their rules are in the {@link com.torrosoft.triviazo.core.GameEngine}
+ * of the current configuration, so both show the same: the score.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class TimedGameScreen extends GameScreen {
+
+    public TimedGameScreen(final TriviazoGame game) {
+        super(game);
+    }
+
+    @Override
+    public final void updateScore() {
+        lblCorrect.setText("");
+        lblIncorrect.setText("Puntuación: " + engine.getScore());
+    }
+
+    @Override
+    public final void gameOver() {
+        game.getScreens().get(GameOverScreen.class).setScore(
+                engine.getScore());
+        game.setScreen(GameOverScreen.class);
+    }
+}
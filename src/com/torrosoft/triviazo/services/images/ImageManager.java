@@ -0,0 +1,221 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.services.images;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * This class loads the images of the screens through an {@link AssetManager}
+ * and shares them: an image is loaded once, while some screen holds it, and
+ * it's disposed when the last one releases it. The disposal waits for the
+ * next {@link #update()}, because the screen being left releases its images
+ * before the next one gets them, and they often share some.
+ * <p>
+ * The buttons ("images/buttons/*.png") are packed in the {@link #UI_ATLAS},
+ * one texture for all of them, by the packAtlas task of the build. Their
+ * region is the name of the file without extension. Without the atlas they
+ * are loaded one by one. The backgrounds are too big to pack, each one is a
+ * texture.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class ImageManager implements Disposable {
+    public static final String UI_ATLAS = "images/ui.atlas";
+    private static final String PACKED_DIR = "images/buttons/";
+
+    private final AssetManager assetManager;
+
+    /**
+     * The references held by the screens, by file. The asset manager counts
+     * the dependencies among the assets on its own.
+     */
+    private final ObjectIntMap<String> references = new ObjectIntMap<String>();
+
+    /**
+     * The files without references, unloaded on the next update.
+     */
+    private final Array<String> unused = new Array<String>();
+
+    /**
+     * If the buttons are in the atlas.
+     */
+    private final boolean packed;
+
+    /**
+     * Default ctor.
+     */
+    public ImageManager() {
+        this(new AssetManager(), Gdx.files.internal(UI_ATLAS).exists());
+    }
+
+    /**
+     * @param pAssetManager
+     *            The asset manager, disposed with this.
+     * @param pPacked
+     *            If the buttons are in the {@link #UI_ATLAS}.
+     */
+    public ImageManager(final AssetManager pAssetManager,
+            final boolean pPacked) {
+        assetManager = pAssetManager;
+        packed = pPacked;
+    }
+
+    /**
+     * Gets an image, loading it if needed. It must be released with
+     * {@link #release(String)}.
+     * 
+     * @param path
+     *            The path of the image in the assets.
+     */
+    public final TextureRegion getRegion(final String path) {
+        if (isPacked(path)) {
+            final TextureAtlas atlas = acquire(UI_ATLAS, TextureAtlas.class);
+            final TextureRegion region = atlas.findRegion(regionName(path));
+            if (region == null) {
+                release(path);
+                throw new GdxRuntimeException("Not in " + UI_ATLAS + ": "
+                        + path);
+            }
+            return region;
+        }
+
+        return new TextureRegion(acquire(path, Texture.class));
+    }
+
+    /**
+     * Gets an image as a {@link Drawable}, see {@link #getRegion(String)}.
+     */
+    public final Drawable getDrawable(final String path) {
+        return new TextureRegionDrawable(getRegion(path));
+    }
+
+    /**
+     * Starts loading an image in the background, see {@link #update()}. It
+     * takes a reference, to be released as if it was got.
+     * 
+     * @param path
+     *            The path of the image in the assets.
+     */
+    public final void preload(final String path) {
+        final String file = fileName(path);
+        final int count = references.get(file, 0);
+        if ((count == 0) && !unused.removeValue(file, false)) {
+            assetManager.load(file, assetType(path));
+        }
+        references.put(file, count + 1);
+    }
+
+    /**
+     * Releases a reference to an image, it's disposed if it was the last one.
+     * 
+     * @param path
+     *            The path of the image in the assets.
+     */
+    public final void release(final String path) {
+        final String file = fileName(path);
+        final int count = references.get(file, 0);
+        if (count <= 0) {
+            throw new IllegalStateException("Not in use: " + path);
+        }
+
+        if (count == 1) {
+            references.remove(file, 0);
+            unused.add(file);
+        } else {
+            references.put(file, count - 1);
+        }
+    }
+
+    /**
+     * Disposes the images without references and goes on with the images
+     * preloaded. It should be called every frame.
+     * 
+     * @return True if there is nothing left to load.
+     */
+    public final boolean update() {
+        for (final String file : unused) {
+            assetManager.unload(file);
+        }
+        unused.clear();
+        return assetManager.update();
+    }
+
+    /**
+     * @return The references held to an image, 0 if it's not loaded.
+     */
+    public final int getReferenceCount(final String path) {
+        return references.get(fileName(path), 0);
+    }
+
+    /**
+     * @return The number of files loaded, the textures of the atlas included.
+     */
+    public final int getLoadedCount() {
+        return assetManager.getLoadedAssets();
+    }
+
+    @Override
+    public final void dispose() {
+        references.clear();
+        unused.clear();
+        assetManager.dispose();
+    }
+
+    private <T> T acquire(final String file, final Class<T> type) {
+        final int count = references.get(file, 0);
+        if ((count == 0) && !unused.removeValue(file, false)) {
+            assetManager.load(file, type);
+        }
+        references.put(file, count + 1);
+        if (!assetManager.isLoaded(file, type)) assetManager.finishLoading();
+        return assetManager.get(file, type);
+    }
+
+    private boolean isPacked(final String path) {
+        return packed && path.startsWith(PACKED_DIR);
+    }
+
+    private String fileName(final String path) {
+        return isPacked(path) ? UI_ATLAS : path;
+    }
+
+    private Class<?> assetType(final String path) {
+        return isPacked(path) ? TextureAtlas.class : Texture.class;
+    }
+
+    /**
+     * The region of a packed image: its file name without extension.
+     */
+    private static String regionName(final String path) {
+        final int dot = path.lastIndexOf('.');
+        final int end = (dot > 0) ? dot : path.length();
+        return path.substring(PACKED_DIR.length(), end);
+    }
+}
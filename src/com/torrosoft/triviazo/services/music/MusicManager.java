@@ -17,23 +17,49 @@
 
 package com.torrosoft.triviazo.services.music;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Disposable;
+import com.torrosoft.triviazo.util.NamedThreadFactory;
 
 /**
  * Service for the background music of the game (streaming). It uses native
  * components and must be disposable manually (the JVM garbage collector only
  * works with Java components, not native).
  * <p>
- * Only one music may be playing at a given time.
+ * Only one music may be playing at a given time, but a new one comes in
+ * fading in while the old one fades out, see {@link #update(float)}. The
+ * musics opened are kept, up to {@link #MAX_OPEN}, and the screens ask for
+ * the next one they are going to need with {@link #prefetch(TriviazoMusic)}:
+ * its file is read in the background, warming the system file cache, and it's
+ * opened on the render thread by a later {@link #update(float)} with no fade
+ * running. The decoder is still opened on the render thread, but on an idle
+ * frame before the screen change instead of during it.
  * 
  * @author Sergio Torró
  * @since 04/05/2013
  * @version 0.1
  */
 public class MusicManager implements Disposable {
+    /**
+     * The musics kept open, playing or not.
+     */
+    public static final int MAX_OPEN = 2;
+
+    private static final float FADE_SECONDS = 1F;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     /**
      * The volume to be set on the music.
      */
@@ -49,52 +75,200 @@ public class MusicManager implements Disposable {
      */
     private TriviazoMusic musicBeingPlayed;
 
+    /**
+     * The music fading out, if any, and how long it has been fading.
+     */
+    private TriviazoMusic musicFadingOut;
+    private float fadeTime;
+
+    /**
+     * The musics opened, the least recently played first.
+     */
+    private final Map<TriviazoMusic, Music> openMusics =
+            new LinkedHashMap<TriviazoMusic, Music>(MAX_OPEN + 1, .75F, true);
+
+    /**
+     * Reads the files of the musics prefetched, null until the first one.
+     * The musics are opened on the render thread: a new Music joins a list
+     * which the audio of the desktop walks on every frame.
+     */
+    private ExecutorService loader;
+
+    /**
+     * The musics prefetched being read.
+     */
+    private final Map<TriviazoMusic, Future<?>> reading =
+            new EnumMap<TriviazoMusic, Future<?>>(TriviazoMusic.class);
+
     /**
      * Creates the music manager.
      */
     public MusicManager() {}
 
     /**
-     * Plays the given music (starts the streaming).
+     * Plays the given music (starts the streaming), fading in.
      * <p>
-     * If there is already a music being played it is stopped automatically.
+     * If there is already a music being played it fades out.
      */
     public final void play(final TriviazoMusic music) {
         // check if the music is enabled
         if (enabled) {
             // check if the given music is already being played
             if (musicBeingPlayed != music) {
-                // stop any music being played
-                stop();
-
-                // start streaming the new music
-                final FileHandle musicFile = Gdx.files.internal(music.getFileName());
-                final Music musicResource = Gdx.audio.newMusic(musicFile);
+                // a music still fading out is stopped now
+                stopFading();
 
-                musicResource.setVolume(volume);
+                // start streaming the new music, the old one fades out
+                final Music musicResource = open(music);
+                musicResource.setVolume(0F);
                 musicResource.setLooping(true);
                 musicResource.play();
 
+                musicFadingOut = musicBeingPlayed;
+                fadeTime = 0F;
+
                 // set the music being played
                 musicBeingPlayed = music;
-                musicBeingPlayed.setMusicResource(musicResource);
+                update(0F);
+            }
+        }
+    }
+
+    /**
+     * Opens a music in advance, it's likely the next one to be played. The
+     * file is read in the background and the music is opened on a later
+     * {@link #update(float)}, if no music is fading.
+     */
+    public final void prefetch(final TriviazoMusic music) {
+        if (!enabled || openMusics.containsKey(music)
+                || reading.containsKey(music)) return;
+
+        if (loader == null) {
+            loader = Executors.newSingleThreadExecutor(new NamedThreadFactory(
+                    "triviazo-music-loader"));
+        }
+        final FileHandle musicFile = Gdx.files.internal(music.getFileName());
+        reading.put(music, loader.submit(new Runnable() {
+            @Override
+            public void run() {
+                read(musicFile);
+            }
+        }));
+    }
+
+    /**
+     * Moves the fades forward and opens the musics prefetched. It must be
+     * called on every frame.
+     * 
+     * @param delta
+     *            The time of the frame, in seconds.
+     */
+    public final void update(final float delta) {
+        if (musicFadingOut != null) {
+            fadeTime += delta;
+            final float in = Math.min(fadeTime / FADE_SECONDS, 1F);
+            openMusics.get(musicBeingPlayed).setVolume(volume * in);
+            if (in < 1F) {
+                openMusics.get(musicFadingOut).setVolume(volume * (1F - in));
+            } else {
+                stopFading();
+            }
+        } else if ((musicBeingPlayed != null) && (delta == 0F)) {
+            openMusics.get(musicBeingPlayed).setVolume(volume);
+        }
+
+        // the decoders are opened between fades, one per frame
+        if ((musicFadingOut == null) && !reading.isEmpty()) {
+            final Iterator<Map.Entry<TriviazoMusic, Future<?>>> it = reading
+                    .entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<TriviazoMusic, Future<?>> entry = it.next();
+                if (entry.getValue().isDone()) {
+                    final TriviazoMusic music = entry.getKey();
+                    it.remove();
+                    if (enabled) open(music);
+                    break;
+                }
             }
         }
     }
 
     /**
-     * Stops and disposes the current music being played, if any.
+     * Stops the current music being played, if any. It's kept open.
      */
     public final void stop() {
+        stopFading();
         if (musicBeingPlayed != null) {
-            final Music musicResource = musicBeingPlayed.getMusicResource();
-
-            musicResource.stop();
-            musicResource.dispose();
+            openMusics.get(musicBeingPlayed).stop();
             musicBeingPlayed = null;
         }
     }
 
+    /**
+     * @return The number of musics open, playing or not.
+     */
+    public final int getOpenCount() {
+        return openMusics.size();
+    }
+
+    /**
+     * Gets an open music, opening it if needed. If there are too many open
+     * the least recently played one which isn't playing is disposed.
+     */
+    private Music open(final TriviazoMusic music) {
+        Music musicResource = openMusics.get(music);
+        if (musicResource == null) {
+            final FileHandle musicFile = Gdx.files.internal(music.getFileName());
+            musicResource = Gdx.audio.newMusic(musicFile);
+            openMusics.put(music, musicResource);
+            evict();
+        }
+
+        return musicResource;
+    }
+
+    private void evict() {
+        final Iterator<Map.Entry<TriviazoMusic, Music>> it = openMusics
+                .entrySet().iterator();
+        while ((openMusics.size() > MAX_OPEN) && it.hasNext()) {
+            final Map.Entry<TriviazoMusic, Music> entry = it.next();
+            final TriviazoMusic music = entry.getKey();
+            if ((music != musicBeingPlayed) && (music != musicFadingOut)) {
+                entry.getValue().dispose();
+                it.remove();
+            }
+        }
+    }
+
+    private void stopFading() {
+        if (musicFadingOut != null) {
+            openMusics.get(musicFadingOut).stop();
+            musicFadingOut = null;
+        }
+    }
+
+    /**
+     * Reads a file and throws away its bytes, so the system has it in memory
+     * when the music is opened.
+     */
+    private static void read(final FileHandle file) {
+        final InputStream in = file.read();
+        try {
+            final byte[] buffer = new byte[READ_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // Only the reading matters
+            }
+        } catch (final IOException e) {
+            // The music will be read again when it's opened
+        } finally {
+            try {
+                in.close();
+            } catch (final IOException e) {
+                // Nothing to do
+            }
+        }
+    }
+
     /**
      * Sets the music volume which must be inside the range [0,1].
      */
@@ -106,8 +280,8 @@ public class MusicManager implements Disposable {
         volume = pVolume;
 
         // if there is a music being played, change its volume
-        if (musicBeingPlayed != null) {
-            musicBeingPlayed.getMusicResource().setVolume(pVolume);
+        if ((musicBeingPlayed != null) && (musicFadingOut == null)) {
+            openMusics.get(musicBeingPlayed).setVolume(pVolume);
         }
     }
 
@@ -127,5 +301,11 @@ public class MusicManager implements Disposable {
     @Override
     public final void dispose() {
         stop();
+        if (loader != null) loader.shutdownNow();
+        reading.clear();
+        for (final Music musicResource : openMusics.values()) {
+            musicResource.dispose();
+        }
+        openMusics.clear();
     }
 }
@@ -17,25 +17,48 @@
 
 package com.torrosoft.triviazo.services.music;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.torrosoft.triviazo.util.LRUCache;
 import com.torrosoft.triviazo.util.LRUCache.CacheEntryRemovedListener;
+import com.torrosoft.triviazo.util.NamedThreadFactory;
 
 /**
- * This class handles the sounds like clicks. It should cache the loaded sounds
- * in order to improve performance by avoiding excessive IO reads. An
- * implementation of LRU (Least Recently Used) cache would do the job. See
- * {@link LRUCache} class.
+ * This class handles the sounds like clicks. It caches the loaded sounds in
+ * order to improve performance by avoiding excessive IO reads, with an
+ * implementation of LRU (Least Recently Used) cache. See {@link LRUCache}
+ * class.
+ * <p>
+ * The sounds are decoded in the background by {@link #preload()}, so the
+ * first time one is played the render thread doesn't stop to read it. A
+ * sound played before it's ready waits for it, or is read right away if it
+ * wasn't preloaded: that's a miss. Each sound may play a few times at once
+ * ({@link TriviazoSound#getMaxVoices()}), beyond that the oldest one is
+ * stopped.
  * 
  * @author Sergio Torró
  * @since 01/05/2013
- * @version 0.1
+ * @version 0.2
  */
 public class SoundManager implements
         CacheEntryRemovedListener<TriviazoSound, Sound>, Disposable {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+    private static final long NO_VOICE = -1L;
+
     /**
      * The volume of the sound.
      */
@@ -51,12 +74,62 @@ public class SoundManager implements
      */
     private final LRUCache<TriviazoSound, Sound> soundCache;
 
+    /**
+     * Decodes the sounds preloaded, null until {@link #preload()}.
+     */
+    private ExecutorService loader;
+
+    /**
+     * The sounds being preloaded, only used on the render thread.
+     */
+    private final Map<TriviazoSound, Future<Sound>> pending =
+            new EnumMap<TriviazoSound, Future<Sound>>(TriviazoSound.class);
+
+    /**
+     * The ids of the last voices of each sound, by ordinal, in a ring: the
+     * next one to use is the oldest.
+     */
+    private final long[][] voices = new long[TriviazoSound.values().length][];
+    private final int[] nextVoice = new int[TriviazoSound.values().length];
+
+    /* STATS */
+    private final AtomicLong decodeNanos = new AtomicLong();
+    private long stallNanos = 0;
+    private int hits = 0;
+    private int misses = 0;
+
     /**
      * Default ctor. that creates the sound manager.
      */
     public SoundManager() {
         soundCache = new LRUCache<TriviazoSound, Sound>(10);
         soundCache.setEntryRemovedListener(this);
+        for (final TriviazoSound sound : TriviazoSound.values()) {
+            voices[sound.ordinal()] = new long[sound.getMaxVoices()];
+            Arrays.fill(voices[sound.ordinal()], NO_VOICE);
+        }
+    }
+
+    /**
+     * Starts decoding every sound in the background.
+     */
+    public final void preload() {
+        if (loader == null) {
+            loader = Executors.newSingleThreadExecutor(new NamedThreadFactory(
+                    "triviazo-sound-loader"));
+        }
+
+        for (final TriviazoSound sound : TriviazoSound.values()) {
+            final boolean loaded = (soundCache.get(sound) != null);
+            if (!loaded && !pending.containsKey(sound)) {
+                pending.put(sound, loader.submit(new Callable<Sound>() {
+                    @Override
+                    public Sound call() {
+                        return decode(sound);
+                    }
+                }));
+            }
+        }
     }
 
     /**
@@ -68,18 +141,91 @@ public class SoundManager implements
             Sound soundToPlay = soundCache.get(sound);
 
             if (soundToPlay == null) {
-                // If the cache doesn't have the sound, reads it from disk.
-                final FileHandle soundFile = Gdx.files.internal(sound.getFileName());
-                soundToPlay = Gdx.audio.newSound(soundFile);
+                soundToPlay = load(sound);
                 soundCache.add(sound, soundToPlay);
+            } else {
+                hits += 1;
             }
 
-            soundToPlay.play(volume);
+            playVoice(sound, soundToPlay);
         }
     }
 
+    /**
+     * Gets a sound which isn't in the cache: from the preload, waiting for
+     * it if needed, or from disk.
+     */
+    private Sound load(final TriviazoSound sound) {
+        final Future<Sound> future = pending.remove(sound);
+        if ((future != null) && future.isDone()) {
+            hits += 1;
+            return collect(future);
+        }
+
+        misses += 1;
+        final long start = System.nanoTime();
+        final Sound loaded = (future != null) ? collect(future) : decode(sound);
+        stallNanos += System.nanoTime() - start;
+        return loaded;
+    }
+
+    /**
+     * Reads a sound from disk, on any thread.
+     */
+    private Sound decode(final TriviazoSound sound) {
+        final long start = System.nanoTime();
+        final FileHandle soundFile = Gdx.files.internal(sound.getFileName());
+        final Sound decoded = Gdx.audio.newSound(soundFile);
+        decodeNanos.addAndGet(System.nanoTime() - start);
+        return decoded;
+    }
+
+    private static Sound collect(final Future<Sound> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (final ExecutionException e) {
+            throw new GdxRuntimeException("Can't load the sound", e.getCause());
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Plays a voice of the sound, stopping its oldest voice if all of them
+     * are in use. The voices that already ended are stopped too, it does
+     * nothing.
+     */
+    private void playVoice(final TriviazoSound sound, final Sound soundToPlay) {
+        final long[] ids = voices[sound.ordinal()];
+        final int slot = nextVoice[sound.ordinal()];
+        if (ids[slot] != NO_VOICE) soundToPlay.stop(ids[slot]);
+
+        ids[slot] = soundToPlay.play(volume);
+        nextVoice[sound.ordinal()] = (slot + 1) % ids.length;
+    }
+
     @Override
     public final void dispose() {
+        if (loader != null) {
+            loader.shutdown();
+            try {
+                loader.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS,
+                        TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (final Future<Sound> future : pending.values()) {
+                if (future.isDone()) collect(future).dispose();
+            }
+            pending.clear();
+        }
         for (final Sound sound : soundCache.retrieveAll()) {
             sound.stop();
             sound.dispose();
@@ -91,6 +237,34 @@ public class SoundManager implements
         value.dispose();
     }
 
+    /**
+     * @return The plays of a sound which was already decoded.
+     */
+    public final int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The plays which had to wait for the sound to be decoded.
+     */
+    public final int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The time spent decoding the sounds, on any thread.
+     */
+    public final long getDecodeNanos() {
+        return decodeNanos.get();
+    }
+
+    /**
+     * @return The time the render thread waited for the sounds.
+     */
+    public final long getStallNanos() {
+        return stallNanos;
+    }
+
     public final float getVolume() {
         return volume;
     }
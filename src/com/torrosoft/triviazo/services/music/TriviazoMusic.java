@@ -17,8 +17,6 @@
 
 package com.torrosoft.triviazo.services.music;
 
-import com.badlogic.gdx.audio.Music;
-
 /**
  * Enumeration for control the available musics files.
  * 
@@ -41,7 +39,6 @@ public enum TriviazoMusic {
     TENSION_IS_RISING("music/tension_is_rising.mp3");
 
     private String fileName;
-    private Music musicResource;
 
     private TriviazoMusic(final String pFileName) {
         fileName = pFileName;
@@ -50,12 +47,4 @@ public enum TriviazoMusic {
     public String getFileName() {
         return fileName;
     }
-
-    public Music getMusicResource() {
-        return musicResource;
-    }
-
-    public void setMusicResource(final Music musicBeingPlayed) {
-        musicResource = musicBeingPlayed;
-    }
 }
@@ -25,17 +25,28 @@ package com.torrosoft.triviazo.services.music;
  * @version 0.1
  */
 public enum TriviazoSound {
-    CLICK("sounds/click.wav"),
-    TICK("sounds/tick.wav"),
-    CHIMP("sounds/chimp.wav");
+    // In the order they are needed, they are preloaded in this order
+    CHIMP("sounds/chimp.wav", 1),
+    CLICK("sounds/click.wav", 2),
+    TICK("sounds/tick.wav", 2);
 
     private final String fileName;
 
-    private TriviazoSound(final String pFileName) {
+    /**
+     * How many times the sound may be playing at once.
+     */
+    private final int maxVoices;
+
+    private TriviazoSound(final String pFileName, final int pMaxVoices) {
         fileName = pFileName;
+        maxVoices = pMaxVoices;
     }
 
     public String getFileName() {
         return fileName;
     }
+
+    public int getMaxVoices() {
+        return maxVoices;
+    }
 }
@@ -17,51 +17,194 @@
 
 package com.torrosoft.triviazo.services.preferences;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.torrosoft.triviazo.util.NamedThreadFactory;
 
 /**
  * Simple class for handles the game preferences.
+ * <p>
+ * The preferences are read once and kept in memory. The setters only change
+ * the values in memory: they're written to disk in the background, when
+ * there have been no changes for {@link #QUIET_MILLIS}, so dragging the
+ * volume slider writes the file once. {@link #flush()} writes them right
+ * away (in the background too) and {@link #dispose()} waits for the last
+ * write.
  * 
  * @author Sergio Torró
  * @since 01/05/2013
  * @version 0.1
  */
-public class PreferencesManager {
+public class PreferencesManager implements Disposable {
+    /**
+     * The time without changes before they're written.
+     */
+    public static final long QUIET_MILLIS = 500L;
+
+    private static final long QUIET_NANOS = TimeUnit.MILLISECONDS
+            .toNanos(QUIET_MILLIS);
+    private static final long DISPOSE_TIMEOUT_MILLIS = 2000L;
+    private static final String TAG = "PreferencesManager";
+
+    /**
+     * Only used by the writer thread, after the first read.
+     */
     private final Preferences preferences;
 
+    /**
+     * Writes the preferences, one write at a time.
+     */
+    private final ScheduledThreadPoolExecutor writer;
+
+    private volatile boolean soundEnabled;
+    private volatile boolean musicEnabled;
+    private volatile float volume;
+
+    /**
+     * Guarded by this: whether there are changes not written, when the last
+     * one happened and whether a write is waiting for the quiet.
+     */
+    private boolean dirty;
+    private long lastChangeNanos;
+    private boolean writeScheduled;
+
+    /**
+     * Writes the changes once they have been quiet long enough.
+     */
+    private final Runnable quietWrite = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (PreferencesManager.this) {
+                final long quiet = System.nanoTime() - lastChangeNanos;
+                if (quiet < QUIET_NANOS) {
+                    writer.schedule(this, QUIET_NANOS - quiet,
+                            TimeUnit.NANOSECONDS);
+                    return;
+                }
+                writeScheduled = false;
+            }
+            write();
+        }
+    };
+
+    /**
+     * Writes the changes right away.
+     */
+    private final Runnable write = new Runnable() {
+        @Override
+        public void run() {
+            write();
+        }
+    };
+
     /**
      * Default ctor.
      */
     public PreferencesManager() {
         preferences = Gdx.app.getPreferences(Preference.PREFS_NAME.getName());
+        soundEnabled = preferences.getBoolean(
+                Preference.SOUND_ENABLED.getName(), true);
+        musicEnabled = preferences.getBoolean(
+                Preference.MUSIC_ENABLED.getName(), true);
+        volume = preferences.getFloat(Preference.VOLUME.getName(), 0.5f);
+
+        writer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+                "triviazo-preferences"));
     }
 
     public final boolean isSoundEnabled() {
-        return preferences.getBoolean(Preference.SOUND_ENABLED.getName(), true);
+        return soundEnabled;
     }
 
     public final void setSoundEnabled(final boolean soundEffectsEnabled) {
-        preferences.putBoolean(Preference.SOUND_ENABLED.getName(),
-                soundEffectsEnabled);
-        preferences.flush();
+        soundEnabled = soundEffectsEnabled;
+        changed();
     }
 
     public final boolean isMusicEnabled() {
-        return preferences.getBoolean(Preference.MUSIC_ENABLED.getName(), true);
+        return musicEnabled;
     }
 
-    public final void setMusicEnabled(final boolean musicEnabled) {
-        preferences.putBoolean(Preference.MUSIC_ENABLED.getName(), musicEnabled);
-        preferences.flush();
+    public final void setMusicEnabled(final boolean pMusicEnabled) {
+        musicEnabled = pMusicEnabled;
+        changed();
     }
 
     public final float getVolume() {
-        return preferences.getFloat(Preference.VOLUME.getName(), 0.5f);
+        return volume;
+    }
+
+    public final void setVolume(final float pVolume) {
+        volume = pVolume;
+        changed();
+    }
+
+    /**
+     * Writes the changes, if any, in the background without waiting for the
+     * quiet. The application calls it when it's paused.
+     */
+    public final void flush() {
+        writer.execute(write);
     }
 
-    public final void setVolume(final float volume) {
-        preferences.putFloat(Preference.VOLUME.getName(), volume);
-        preferences.flush();
+    /**
+     * Writes the changes, if any, waiting for them, and stops the writer.
+     */
+    @Override
+    public final void dispose() {
+        try {
+            writer.submit(write).get(DISPOSE_TIMEOUT_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            Gdx.app.error(TAG, "The preferences were not saved", e.getCause());
+        } catch (final TimeoutException e) {
+            Gdx.app.error(TAG, "The preferences were not saved in time", e);
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    private synchronized void changed() {
+        dirty = true;
+        lastChangeNanos = System.nanoTime();
+        if (!writeScheduled) {
+            writeScheduled = true;
+            writer.schedule(quietWrite, QUIET_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the values in memory, on the writer thread. A change made while
+     * writing, or a write which fails, marks them dirty again and they're
+     * written by the next write.
+     */
+    private void write() {
+        synchronized (this) {
+            if (!dirty) return;
+            dirty = false;
+        }
+
+        try {
+            preferences.putBoolean(Preference.SOUND_ENABLED.getName(),
+                    soundEnabled);
+            preferences.putBoolean(Preference.MUSIC_ENABLED.getName(),
+                    musicEnabled);
+            preferences.putFloat(Preference.VOLUME.getName(), volume);
+            preferences.flush();
+        } catch (final GdxRuntimeException e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            Gdx.app.error(TAG, "The preferences were not saved", e);
+        }
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.services.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * This class holds the user interface resources which are the same for every
+ * screen: the skin, the sprite batch and the fonts. They are created the
+ * first time they are needed and live as long as the game, so a screen
+ * change doesn't parse the skin, upload its texture or compile the batch
+ * shader again. The screens must not dispose them.
+ * <p>
+ * It also pools the widgets the game screens take and give back on every
+ * game, the labels and the text buttons of the default style.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class UiManager implements Disposable {
+    public static final String SKIN_FILE = "skin/uiskin.json";
+
+    /**
+     * The key of the libGDX built-in font in the font cache.
+     */
+    private static final String DEFAULT_FONT = "";
+
+    private Skin skin;
+    private SpriteBatch batch;
+    private final ObjectMap<String, BitmapFont> fonts =
+            new ObjectMap<String, BitmapFont>();
+
+    private final Pool<Label> labels = new Pool<Label>() {
+        @Override
+        protected Label newObject() {
+            return new Label("", getSkin());
+        }
+    };
+
+    private final Pool<TextButton> textButtons = new Pool<TextButton>() {
+        @Override
+        protected TextButton newObject() {
+            return new TextButton("", getSkin());
+        }
+    };
+
+    /**
+     * @return The skin of the screens.
+     */
+    public final Skin getSkin() {
+        if (skin == null) {
+            skin = new Skin(Gdx.files.internal(SKIN_FILE));
+        }
+
+        return skin;
+    }
+
+    /**
+     * @return The batch the stages of the screens draw with.
+     */
+    public final SpriteBatch getBatch() {
+        if (batch == null) {
+            batch = new SpriteBatch();
+        }
+
+        return batch;
+    }
+
+    /**
+     * @return The libGDX built-in font (Arial 15).
+     */
+    public final BitmapFont getFont() {
+        return getFont(DEFAULT_FONT);
+    }
+
+    /**
+     * Gets a font, loading it the first time.
+     * 
+     * @param path
+     *            The path of the .fnt file in the assets.
+     */
+    public final BitmapFont getFont(final String path) {
+        BitmapFont font = fonts.get(path);
+        if (font == null) {
+            font = DEFAULT_FONT.equals(path) ? new BitmapFont()
+                    : new BitmapFont(Gdx.files.internal(path), false);
+            fonts.put(path, font);
+        }
+
+        return font;
+    }
+
+    /**
+     * @return A label of the skin, empty. It must be given back with
+     *         {@link #free(Label)}.
+     */
+    public final Label obtainLabel() {
+        return labels.obtain();
+    }
+
+    /**
+     * Takes a label out of its parent and back to the pool.
+     */
+    public final void free(final Label label) {
+        label.remove();
+        label.clearActions();
+        label.setText("");
+        label.setName(null);
+        label.setVisible(true);
+        labels.free(label);
+    }
+
+    /**
+     * @return A text button of the skin, empty. It must be given back with
+     *         {@link #free(TextButton)}, without the listeners added to it.
+     */
+    public final TextButton obtainTextButton() {
+        return textButtons.obtain();
+    }
+
+    /**
+     * Takes a text button out of its parent and back to the pool.
+     */
+    public final void free(final TextButton button) {
+        button.remove();
+        button.clearActions();
+        button.setText("");
+        button.setName(null);
+        button.setVisible(true);
+        button.setChecked(false);
+        textButtons.free(button);
+    }
+
+    @Override
+    public final void dispose() {
+        for (final BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+        labels.clear();
+        textButtons.clear();
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (skin != null) {
+            skin.dispose();
+            skin = null;
+        }
+    }
+}
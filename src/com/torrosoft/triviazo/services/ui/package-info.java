@@ -0,0 +1,8 @@
+/**
+ * This package contains the user interface resources shared by the screens.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+package com.torrosoft.triviazo.services.ui;
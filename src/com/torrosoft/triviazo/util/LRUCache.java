@@ -17,14 +17,32 @@
 
 package com.torrosoft.triviazo.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This class is a simple implementation of the LRU (Least Recently Used) cache
  * algorithm with the goal of optimize the execution. It's used by the Sound
- * service.
+ * service and the databases.
+ * <p>
+ * The cache is thread safe. The reads don't lock: the entries are looked up
+ * in a concurrent map and their accesses are written down in a few ring
+ * buffers, one per group of threads, which are drained into the LRU order
+ * by the next write or when they fill up. If a buffer is overwritten before
+ * it's drained some accesses are lost and the order is only approximated.
+ * A cache created with a strict order moves the entry on every read instead,
+ * under the lock: it's meant for the caches of a single thread whose evicted
+ * values are released, like the compiled statements of a connection.
+ * <p>
+ * The cache is bounded by the weight of its entries, one per entry unless a
+ * {@link Weigher} is given, and the entries may expire some time after being
+ * added. The {@link CacheEntryRemovedListener} is called out of the lock.
  * 
  * <a href="http://en.wikipedia.org/wiki/Cache_algorithms#Least_Recently_Used">
  * For more information see Wikipedia</a>
@@ -34,45 +52,259 @@ import java.util.Map;
  * @version 0.1
  */
 public class LRUCache<K, V> {
-    private Map<K, V> cache;
-    private CacheEntryRemovedListener<K, V> entryRemovedListener;
+    private static final int READ_BUFFERS = 4;
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+    /**
+     * The reads written down in a buffer which make a drain worth it.
+     */
+    private static final int DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+
+    private final ConcurrentHashMap<K, Node<K, V>> cache;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long maxWeight;
+    private final boolean strictOrder;
+
+    /**
+     * Guards the LRU order (the list of nodes, the least recently used
+     * first) and the weight. The map is only changed with it held.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private long weight;
+
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFERS];
+
+    private volatile CacheEntryRemovedListener<K, V> entryRemovedListener;
+    private volatile long timeToLiveNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
 
     /**
      * Creates the cache with the specified max entries.
      */
     public LRUCache(final int maxEntries) {
-        cache = new LinkedHashMap<K, V>(maxEntries + 1, .75F, true) {
-            /**
-             * Serial version UID.
-             */
-            private static final long serialVersionUID = -3773718296246105356L;
-
-            @Override
-            public boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
-                if (size() > maxEntries) {
-                    if (entryRemovedListener != null) {
-                        entryRemovedListener.notifyEntryRemoved(
-                                eldest.getKey(), eldest.getValue());
-                    }
-
-                    return true;
-                }
+        this(maxEntries, null, false);
+    }
 
-                return false;
-            }
-        };
+    /**
+     * Creates the cache with the specified max entries.
+     * 
+     * @param pStrictOrder
+     *            Whether every read updates the LRU order right away.
+     */
+    public LRUCache(final int maxEntries, final boolean pStrictOrder) {
+        this(maxEntries, null, pStrictOrder);
     }
 
+    /**
+     * Creates the cache with the specified max weight.
+     * 
+     * @param pMaxWeight
+     *            The max weight of the entries, together.
+     * @param pWeigher
+     *            Weighs the entries, one each if it's null.
+     */
+    public LRUCache(final long pMaxWeight,
+            final Weigher<? super K, ? super V> pWeigher) {
+        this(pMaxWeight, pWeigher, false);
+    }
+
+    /**
+     * Creates the cache with the specified max weight.
+     * 
+     * @param pMaxWeight
+     *            The max weight of the entries, together.
+     * @param pWeigher
+     *            Weighs the entries, one each if it's null.
+     * @param pStrictOrder
+     *            Whether every read updates the LRU order right away.
+     */
+    public LRUCache(final long pMaxWeight,
+            final Weigher<? super K, ? super V> pWeigher,
+            final boolean pStrictOrder) {
+        if (pMaxWeight < 0) { throw new IllegalArgumentException(
+                "The max weight can't be negative: " + pMaxWeight); }
+
+        maxWeight = pMaxWeight;
+        weigher = pWeigher;
+        strictOrder = pStrictOrder;
+        cache = new ConcurrentHashMap<K, Node<K, V>>();
+        for (int i = 0; i < READ_BUFFERS; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * Adds an entry. The least recently used entries are removed until the
+     * cache weighs no more than its max, and a value replaced by a different
+     * one is removed too.
+     */
     public final void add(final K key, final V value) {
-        cache.put(key, value);
+        final int entryWeight = (weigher == null) ? 1 : weigher.weigh(key,
+                value);
+        if (entryWeight < 0) { throw new IllegalArgumentException(
+                "The weight can't be negative: " + entryWeight); }
+
+        final Node<K, V> node = new Node<K, V>(key, value, entryWeight,
+                System.nanoTime());
+        List<Node<K, V>> removed = null;
+        lock.lock();
+        try {
+            drainReadBuffers();
+            final Node<K, V> old = cache.put(key, node);
+            if (old != null) {
+                unlink(old);
+                if (old.value != value) removed = add(removed, old);
+            }
+            link(node);
+
+            while ((weight > maxWeight) && (head != null)) {
+                final Node<K, V> eldest = head;
+                unlink(eldest);
+                cache.remove(eldest.key, eldest);
+                evictions.incrementAndGet();
+                removed = add(removed, eldest);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        notifyRemoved(removed);
     }
 
+    /**
+     * @return The value of the key, or null if it isn't cached or has
+     *         expired.
+     */
     public final V get(final K key) {
-        return cache.get(key);
+        final Node<K, V> node = cache.get(key);
+        if (node == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (hasExpired(node, System.nanoTime())) {
+            misses.incrementAndGet();
+            expire(node);
+            return null;
+        }
+
+        hits.incrementAndGet();
+        if (strictOrder) moveToEnd(node);
+        else recordRead(node);
+        return node.value;
     }
 
+    /**
+     * @return A copy of the values cached, expired or not.
+     */
     public final Collection<V> retrieveAll() {
-        return cache.values();
+        final List<V> values = new ArrayList<V>(cache.size());
+        for (final Node<K, V> node : cache.values()) {
+            values.add(node.value);
+        }
+
+        return values;
+    }
+
+    /**
+     * Removes the entries which have expired, notifying the listener. They're
+     * also removed when they're looked up.
+     */
+    public final void removeExpired() {
+        if (timeToLiveNanos == 0) return;
+
+        final long now = System.nanoTime();
+        List<Node<K, V>> removed = null;
+        lock.lock();
+        try {
+            Node<K, V> node = head;
+            while (node != null) {
+                final Node<K, V> next = node.next;
+                if (hasExpired(node, now)) {
+                    unlink(node);
+                    cache.remove(node.key, node);
+                    evictions.incrementAndGet();
+                    removed = add(removed, node);
+                }
+                node = next;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        notifyRemoved(removed);
+    }
+
+    /**
+     * Removes every entry, notifying the listener.
+     */
+    public final void clear() {
+        List<Node<K, V>> removed = null;
+        lock.lock();
+        try {
+            drainReadBuffers();
+            while (head != null) {
+                final Node<K, V> node = head;
+                unlink(node);
+                removed = add(removed, node);
+            }
+            cache.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        notifyRemoved(removed);
+    }
+
+    /**
+     * @return The number of entries, expired or not.
+     */
+    public final int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return The weight of the entries, together.
+     */
+    public final long getWeight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public final long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return The lookups which found a value.
+     */
+    public final long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The lookups which didn't find a value, or found it expired.
+     */
+    public final long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The entries removed to keep the max weight or because they
+     *         expired.
+     */
+    public final long getEvictions() {
+        return evictions.get();
     }
 
     public final void setEntryRemovedListener(
@@ -81,9 +313,177 @@ public class LRUCache<K, V> {
     }
 
     /**
-     * Called when a cached element is about to be removed.
+     * Sets how long the entries live after being added, zero (the default)
+     * if they never expire.
+     */
+    public final void setTimeToLive(final long pTimeToLive,
+            final TimeUnit unit) {
+        if (pTimeToLive < 0) { throw new IllegalArgumentException(
+                "The time to live can't be negative: " + pTimeToLive); }
+
+        timeToLiveNanos = unit.toNanos(pTimeToLive);
+    }
+
+    private boolean hasExpired(final Node<K, V> node, final long now) {
+        final long ttl = timeToLiveNanos;
+        return (ttl != 0) && ((now - node.addNanos) >= ttl);
+    }
+
+    private void expire(final Node<K, V> node) {
+        lock.lock();
+        try {
+            // it may have been removed or replaced meanwhile
+            if (!cache.remove(node.key, node)) return;
+            unlink(node);
+            evictions.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+
+        notifyRemoved(add(null, node));
+    }
+
+    private void moveToEnd(final Node<K, V> node) {
+        lock.lock();
+        try {
+            if (node.linked && (node != tail)) {
+                unlink(node);
+                link(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes down an access to the node in the buffer of the thread, and
+     * drains the buffers if it's filling up and nobody holds the lock.
+     */
+    private void recordRead(final Node<K, V> node) {
+        final int index = (int) Thread.currentThread().getId()
+                & (READ_BUFFERS - 1);
+        final ReadBuffer buffer = readBuffers[index];
+        final long write = buffer.writes.getAndIncrement();
+        buffer.nodes.lazySet((int) (write & READ_BUFFER_MASK), node);
+
+        if (((write - buffer.drained) >= DRAIN_THRESHOLD) && lock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Moves the nodes read to the end of the LRU order, with the lock held.
+     */
+    @SuppressWarnings("unchecked")
+    private void drainReadBuffers() {
+        for (final ReadBuffer buffer : readBuffers) {
+            final long writes = buffer.writes.get();
+            final long first = Math.max(buffer.drained, writes
+                    - READ_BUFFER_SIZE);
+            for (long i = first; i < writes; i++) {
+                final Node<K, V> node = (Node<K, V>) buffer.nodes.getAndSet(
+                        (int) (i & READ_BUFFER_MASK), null);
+                if ((node != null) && node.linked && (node != tail)) {
+                    unlink(node);
+                    link(node);
+                }
+            }
+            buffer.drained = writes;
+        }
+    }
+
+    private void link(final Node<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) head = node;
+        else tail.next = node;
+        tail = node;
+        node.linked = true;
+        weight += node.weight;
+    }
+
+    private void unlink(final Node<K, V> node) {
+        if (!node.linked) return;
+
+        if (node.prev == null) head = node.next;
+        else node.prev.next = node.next;
+        if (node.next == null) tail = node.prev;
+        else node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        weight -= node.weight;
+    }
+
+    private static <K, V> List<Node<K, V>> add(final List<Node<K, V>> nodes,
+            final Node<K, V> node) {
+        List<Node<K, V>> list = nodes;
+        if (list == null) list = new ArrayList<Node<K, V>>(1);
+        list.add(node);
+        return list;
+    }
+
+    private void notifyRemoved(final List<Node<K, V>> removed) {
+        final CacheEntryRemovedListener<K, V> listener = entryRemovedListener;
+        if ((removed == null) || (listener == null)) return;
+
+        for (final Node<K, V> node : removed) {
+            listener.notifyEntryRemoved(node.key, node.value);
+        }
+    }
+
+    /**
+     * An entry of the cache. The links are guarded by the lock.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int weight;
+        private final long addNanos;
+
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private boolean linked;
+
+        private Node(final K pKey, final V pValue, final int pWeight,
+                final long pAddNanos) {
+            key = pKey;
+            value = pValue;
+            weight = pWeight;
+            addNanos = pAddNanos;
+        }
+    }
+
+    /**
+     * The reads of a group of threads, a ring overwritten when it's full.
+     */
+    private static final class ReadBuffer {
+        private final AtomicLong writes = new AtomicLong();
+        private final AtomicReferenceArray<Object> nodes =
+                new AtomicReferenceArray<Object>(READ_BUFFER_SIZE);
+
+        /**
+         * The writes drained, only changed with the lock held.
+         */
+        private volatile long drained;
+    }
+
+    /**
+     * Called when a cached element has been removed, out of the lock.
      */
     public interface CacheEntryRemovedListener<K, V> {
         void notifyEntryRemoved(K key, V value);
     }
+
+    /**
+     * Weighs the entries of a cache bounded by weight, for instance by the
+     * bytes of the data they hold.
+     */
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Breaks a text in lines no wider than a width, measured with the glyphs of
+ * a {@link BitmapFont} (advance, kerning and scale). Lines break at spaces.
+ * A word wider than the line is split wherever it doesn't fit, and '\n'
+ * always breaks. It runs in linear time and doesn't allocate once its
+ * buffers have grown, except for the String returned by
+ * {@link #wrap(CharSequence, float)}.
+ * <p>
+ * It's not thread safe, the buffers are shared by every call.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class LineBreaker {
+    private final BitmapFontData data;
+
+    /**
+     * The start and end of each line of the last text broken.
+     */
+    private final IntArray lines = new IntArray();
+    private final StringBuilder sb = new StringBuilder();
+
+    /**
+     * @param pData
+     *            The font metrics, see {@link BitmapFont#getData()}. They
+     *            don't need the texture of the font.
+     */
+    public LineBreaker(final BitmapFontData pData) {
+        data = pData;
+    }
+
+    /**
+     * Breaks the text in lines. The spaces where a line breaks are dropped.
+     * 
+     * @param text
+     *            The text.
+     * @param maxWidth
+     *            The maximum width of a line, in the units of the font.
+     * @return The number of lines, see {@link #getLineStart(int)} and
+     *         {@link #getLineEnd(int)}.
+     */
+    public final int breakLines(final CharSequence text, final float maxWidth) {
+        lines.clear();
+        final int length = text.length();
+        int lineStart = 0;
+        int lastSpace = -1;
+        float width = 0;
+        Glyph prev = null;
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n') {
+                addLine(text, lineStart, i);
+                lineStart = i + 1;
+                lastSpace = -1;
+                width = 0;
+                prev = null;
+                continue;
+            }
+
+            final Glyph glyph = data.getGlyph(c);
+            final float advance = advance(prev, glyph, c);
+            if ((c != ' ') && (width + advance > maxWidth) && (i > lineStart)) {
+                if (lastSpace >= lineStart) {
+                    addLine(text, lineStart, lastSpace);
+                    lineStart = lastSpace + 1;
+                    while ((lineStart < i) && (text.charAt(lineStart) == ' ')) {
+                        lineStart += 1;
+                    }
+                } else {
+                    addLine(text, lineStart, i); // No space, split the word
+                    lineStart = i;
+                }
+                lastSpace = -1;
+                width = measure(text, lineStart, i);
+                prev = (i > lineStart) ? data.getGlyph(text.charAt(i - 1)) : null;
+                width += advance(prev, glyph, c);
+            } else {
+                width += advance;
+            }
+
+            if (c == ' ') lastSpace = i;
+            prev = glyph;
+        }
+
+        addLine(text, lineStart, length);
+        return lines.size / 2;
+    }
+
+    /**
+     * @return The width of a part of the text on a single line.
+     */
+    public final float measure(final CharSequence text, final int start,
+            final int end) {
+        float width = 0;
+        Glyph prev = null;
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            final Glyph glyph = data.getGlyph(c);
+            width += advance(prev, glyph, c);
+            prev = glyph;
+        }
+        return width;
+    }
+
+    /**
+     * Breaks the text in lines and joins them with '\n'.
+     * 
+     * @return The wrapped text, the same String if it fits in one line.
+     */
+    public final String wrap(final CharSequence text, final float maxWidth) {
+        final int count = breakLines(text, maxWidth);
+        if ((count == 1) && (text instanceof String) && (lines.get(0) == 0)
+                && (lines.get(1) == text.length())) { return (String) text; }
+
+        sb.setLength(0);
+        for (int line = 0; line < count; line++) {
+            if (line > 0) sb.append('\n');
+            sb.append(text, getLineStart(line), getLineEnd(line));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return The index of the first char of a line of the last text broken.
+     */
+    public final int getLineStart(final int line) {
+        return lines.get(line * 2);
+    }
+
+    /**
+     * @return The index after the last char of a line of the last text broken.
+     */
+    public final int getLineEnd(final int line) {
+        return lines.get((line * 2) + 1);
+    }
+
+    /**
+     * @return The metrics used to measure.
+     */
+    public final BitmapFontData getData() {
+        return data;
+    }
+
+    /**
+     * The advance of a glyph plus its kerning with the previous one. The
+     * chars without glyph aren't drawn, so they take no room.
+     */
+    private float advance(final Glyph prev, final Glyph glyph, final char c) {
+        if (glyph == null) return 0;
+        float advance = glyph.xadvance;
+        if (prev != null) advance += prev.getKerning(c);
+        return advance * data.scaleX;
+    }
+
+    /**
+     * Adds a line without its trailing spaces.
+     */
+    private void addLine(final CharSequence text, final int start, final int end) {
+        int last = end;
+        while ((last > start) && (text.charAt(last - 1) == ' ')) {
+            last -= 1;
+        }
+        lines.add(start);
+        lines.add(last);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads of the background services with a name, to find them
+ * in a thread dump. They are daemon threads, so they never keep the
+ * application alive.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class NamedThreadFactory implements ThreadFactory {
+    private final String name;
+
+    /**
+     * @param pName
+     *            The name of the threads.
+     */
+    public NamedThreadFactory(final String pName) {
+        name = pName;
+    }
+
+    @Override
+    public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.Random;
+
+import com.badlogic.gdx.utils.IntIntMap;
+
+/**
+ * Draws random samples without repetition in O(k) time, k being the size of
+ * the sample, whatever the size of the pool. Both methods are a partial
+ * Fisher–Yates shuffle, so every sample and every order is equally likely,
+ * and k is always clamped to the size of the pool.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class Sampler {
+    /**
+     * Below one sample per this many values of the pool, the shuffled slots
+     * are kept in a map instead of a whole array.
+     */
+    private static final int SPARSE_RATIO = 4;
+
+    private Sampler() {}
+
+    /**
+     * Shuffles only the head of the array: afterwards its first k values are
+     * a random sample of the whole array, in random order.
+     * 
+     * @param pool
+     *            The values to sample, modified in place.
+     * @param k
+     *            The size of the sample.
+     * @param rnd
+     *            The source of randomness.
+     * @return The size of the sample, k clamped to the size of the pool.
+     */
+    public static int shuffle(final int[] pool, final int k, final Random rnd) {
+        final int n = Math.min(Math.max(k, 0), pool.length);
+        for (int i = 0; i < n; i++) {
+            final int j = i + rnd.nextInt(pool.length - i);
+            final int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+        return n;
+    }
+
+    /**
+     * Draws distinct values from 0 to size - 1. Small samples of big pools
+     * don't allocate the pool: only the shuffled slots are remembered.
+     * 
+     * @param size
+     *            The size of the pool.
+     * @param k
+     *            The size of the sample.
+     * @param rnd
+     *            The source of randomness.
+     * @return The sample in random order, with k clamped to the size.
+     */
+    public static int[] sample(final int size, final int k, final Random rnd) {
+        final int n = Math.min(Math.max(k, 0), Math.max(size, 0));
+        final int[] res = new int[n];
+        if ((long) n * SPARSE_RATIO >= size) {
+            final int[] pool = new int[size];
+            for (int i = 0; i < size; i++) {
+                pool[i] = i;
+            }
+            shuffle(pool, n, rnd);
+            System.arraycopy(pool, 0, res, 0, n);
+            return res;
+        }
+
+        // The pool is the identity, a missing slot holds its own index
+        final IntIntMap swapped = new IntIntMap(n * 2);
+        for (int i = 0; i < n; i++) {
+            final int j = i + rnd.nextInt(size - i);
+            res[i] = swapped.get(j, j);
+            swapped.put(j, swapped.get(i, i));
+        }
+        return res;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import java.util.Random;
+
+/**
+ * A splittable generator with the algorithm of Java 8 SplittableRandom
+ * (SplitMix64), usable wherever a {@link Random} is expected. The same seed
+ * gives the same numbers on every platform, and {@link #split()} derives
+ * independent streams, so adding draws to one stream doesn't shift the
+ * others.
+ * <p>
+ * For equal seeds {@link #nextLong()}, {@link #nextInt()},
+ * {@link #nextInt(int)}, {@link #nextDouble()}, {@link #nextBoolean()} and
+ * {@link #split()} return what SplittableRandom does. The rest of the methods
+ * are the ones of {@link Random} over {@link #next(int)}, which has no
+ * SplittableRandom counterpart.
+ * <p>
+ * Unlike {@link Random} it's not thread safe: give each thread its own split.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class SplitMix64 extends Random {
+    private static final long serialVersionUID = 6140381396512513467L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+    private long gamma;
+
+    /**
+     * @param seed
+     *            The seed, every value gives a different sequence.
+     */
+    public SplitMix64(final long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMix64(final long pState, final long pGamma) {
+        super(0L);
+        state = pState;
+        gamma = pGamma;
+    }
+
+    /**
+     * Creates an independent generator, advancing this one.
+     */
+    public final SplitMix64 split() {
+        return new SplitMix64(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Restarts the sequence of the default gamma.
+     */
+    @Override
+    public final synchronized void setSeed(final long seed) {
+        // Also called by the constructor of Random, before the fields are set
+        state = seed;
+        gamma = GOLDEN_GAMMA;
+    }
+
+    @Override
+    public final long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public final int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * The bounded draw of SplittableRandom: a power of two bound takes the
+     * low bits, any other one rejects the values which would bias the
+     * remainder.
+     */
+    @Override
+    public final int nextInt(final int bound) {
+        if (bound <= 0) { throw new IllegalArgumentException(
+                "The bound must be positive: " + bound); }
+
+        int r = mix32(nextSeed());
+        final int m = bound - 1;
+        if ((bound & m) == 0) return r & m;
+
+        int u = r >>> 1;
+        while ((u + m) - (r = u % bound) < 0) {
+            u = mix32(nextSeed()) >>> 1;
+        }
+        return r;
+    }
+
+    @Override
+    public final double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public final boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    @Override
+    protected final int next(final int bits) {
+        return (int) (mix64(nextSeed()) >>> (64 - bits));
+    }
+
+    private long nextSeed() {
+        state += gamma;
+        return state;
+    }
+
+    /**
+     * Mixes a 64 bit value into a well distributed one (Stafford variant 13).
+     * It's also a good hash for turning a date or a name into a seed.
+     */
+    public static long mix64(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        final int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * The wrapped texts of a font, so each one is broken in lines once: a text
+ * is identified by an id (the id of a question), a part (the statement or
+ * an answer) and the width, and the font is the one of the cache. A hit
+ * doesn't allocate.
+ * <p>
+ * When it's full it's emptied, the texts of a few games fit in it anyway.
+ * Changing the scale of the font empties it too.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class TextLayoutCache {
+    private static final int PART_BITS = 8;
+    private static final int WIDTH_BITS = 16;
+
+    private final LineBreaker breaker;
+    private final LongMap<String> layouts = new LongMap<String>();
+    private final int maxEntries;
+    private float scaleX;
+
+    /**
+     * @param data
+     *            The font metrics, see {@link BitmapFont#getData()}.
+     * @param pMaxEntries
+     *            The maximum number of texts kept.
+     */
+    public TextLayoutCache(final BitmapFontData data, final int pMaxEntries) {
+        breaker = new LineBreaker(data);
+        maxEntries = pMaxEntries;
+        scaleX = data.scaleX;
+    }
+
+    /**
+     * @param id
+     *            The id of the text, for instance the one of its question.
+     * @param part
+     *            The part of the text, from 0 to 255.
+     * @param width
+     *            The maximum width of a line, rounded to the pixel.
+     * @param text
+     *            The text, only read if it's not in the cache.
+     * @return The text broken in lines with '\n'.
+     */
+    public final String get(final int id, final int part, final float width,
+            final CharSequence text) {
+        if (breaker.getData().scaleX != scaleX) {
+            layouts.clear();
+            scaleX = breaker.getData().scaleX;
+        }
+
+        final int pixels = Math.round(width);
+        final long key = ((long) id << (PART_BITS + WIDTH_BITS))
+                | ((part & 0xFF) << WIDTH_BITS) | (pixels & 0xFFFF);
+        String layout = layouts.get(key);
+        if (layout == null) {
+            if (layouts.size >= maxEntries) layouts.clear();
+            layout = breaker.wrap(text, pixels);
+            layouts.put(key, layout);
+        }
+        return layout;
+    }
+
+    public final void clear() {
+        layouts.clear();
+    }
+
+    public final int size() {
+        return layouts.size;
+    }
+
+    public final LineBreaker getBreaker() {
+        return breaker;
+    }
+}
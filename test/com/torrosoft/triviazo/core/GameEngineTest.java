@@ -0,0 +1,220 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.torrosoft.triviazo.core.data.QuestionFixtures;
+import com.torrosoft.triviazo.core.data.QuestionIndex;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.GameMode;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * The rules of {@link GameEngine}: the time budget of the timed modes, the
+ * scores and the determinism of the clock.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class GameEngineTest {
+    private static final long SECOND = GameEngine.CLOCK_SECOND_NANOS;
+    private static final int QUESTIONS = 20;
+
+    /**
+     * A bank of questions whose right answer is always the first one.
+     */
+    private static QuestionIndex index() {
+        final List<Question> questions = new ArrayList<Question>();
+        QuestionFixtures.add(questions, QUESTIONS, Language.en_GB,
+                Difficulty.EASY, Discipline.HISTORY);
+        return QuestionFixtures.index(questions);
+    }
+
+    private static int[] deck(final int size) {
+        final int[] deck = new int[size];
+        for (int i = 0; i < size; i++) {
+            deck[i] = i;
+        }
+
+        return deck;
+    }
+
+    @Test
+    public void budgetShrinksDownToTheMinimum() {
+        final GameEngine engine = new GameEngine(GameMode.TEMPUS_FUGIT,
+                index(), deck(QUESTIONS));
+        assertEquals(15, engine.getSecondsLeft());
+
+        // The second question has 13 seconds, then one less each time
+        final int[] expected = { 13, 12, 11, 10, 9, 8, 7, 6, 5, 5, 5 };
+        long now = 0;
+        for (final int seconds : expected) {
+            now += SECOND;
+            assertTrue(engine.answer(0, now));
+            assertEquals(seconds, engine.getSecondsLeft());
+        }
+    }
+
+    @Test
+    public void tempusFugitEndsWhenTheTimeRunsOut() {
+        final GameEngine engine = new GameEngine(GameMode.TEMPUS_FUGIT,
+                index(), deck(QUESTIONS));
+        engine.tick((15 * SECOND) - 1);
+        assertFalse(engine.isOver());
+        assertEquals(1, engine.getSecondsLeft());
+
+        engine.tick(1);
+        assertTrue(engine.isOver());
+        assertEquals(0, engine.getPosition());
+        assertFalse(engine.answer(0, engine.getElapsedNanos()));
+        assertEquals(0, engine.getScore());
+    }
+
+    @Test
+    public void vindicetisCountsTheTimeoutsAsWrong() {
+        final GameEngine engine = new GameEngine(
+                GameMode.VINDICETIS_EX_SIMIUS, index(), deck(QUESTIONS));
+
+        // 10 seconds for the first question, 8 for the second one and 7 for
+        // the third one: a single long tick runs out all of them
+        engine.tick(25 * SECOND);
+        assertEquals(3, engine.getIncorrect());
+        assertEquals(3, engine.getPosition());
+        assertEquals(-3 * GameEngine.QUESTION_VALUE, engine.getScore());
+
+        // The fourth question started at the last deadline, 25 s
+        assertEquals(6, engine.getSecondsLeft());
+    }
+
+    @Test
+    public void answerAfterTheDeadlineIsIgnored() {
+        final GameEngine engine = new GameEngine(
+                GameMode.VINDICETIS_EX_SIMIUS, index(), deck(QUESTIONS));
+        assertFalse(engine.answer(0, 10 * SECOND));
+        assertEquals(0, engine.getCorrect());
+        assertEquals(1, engine.getIncorrect());
+        assertEquals(1, engine.getPosition());
+    }
+
+    @Test
+    public void intellectusMachinaScoresTheWholeDeck() {
+        final GameEngine engine = new GameEngine(
+                GameMode.INTELLECTUS_MACHINA, index(), deck(4));
+        assertFalse(engine.isTimed());
+        assertEquals(-1, engine.getSecondsLeft());
+
+        engine.tick(Long.MAX_VALUE / 2);
+        assertFalse(engine.isOver());
+
+        final long now = engine.getElapsedNanos();
+        assertTrue(engine.answer(0, now));
+        assertTrue(engine.answer(0, now));
+        assertTrue(engine.answer(0, now));
+        assertFalse(engine.answer(1, now));
+        assertTrue(engine.isOver());
+        assertEquals(200, engine.getScore());
+        assertEquals(-1, engine.getCurrentId());
+    }
+
+    @Test
+    public void theScoreIsNeverNegativeWithoutClock() {
+        final GameEngine engine = new GameEngine(
+                GameMode.INTELLECTUS_MACHINA, index(), deck(2));
+        engine.answer(1, 0);
+        engine.answer(1, 0);
+        assertEquals(0, engine.getScore());
+    }
+
+    @Test
+    public void emptyDeckIsOver() {
+        final GameEngine engine = new GameEngine(GameMode.TEMPUS_FUGIT,
+                index(), new int[0]);
+        assertTrue(engine.isOver());
+        assertEquals(null, engine.getCurrent());
+    }
+
+    /**
+     * The same answers at the same instants give the same game, however the
+     * time before them is split in ticks. As on screen, each answer goes to
+     * the question shown at its instant.
+     */
+    @Test
+    public void ticksDontChangeTheResult() {
+        for (final GameMode mode : GameMode.values()) {
+            final Random rnd = new Random(42);
+            final int n = 40;
+            final long[] at = new long[n];
+            final int[] answers = new int[n];
+            long now = 0;
+            for (int i = 0; i < n; i++) {
+                now += (long) (rnd.nextDouble() * 12 * SECOND);
+                at[i] = now;
+                answers[i] = rnd.nextInt(2);
+            }
+
+            final GameEngine whole = play(mode, at, answers, new Random(1), 0);
+            for (int seed = 2; seed < 10; seed++) {
+                final GameEngine split = play(mode, at, answers, new Random(
+                        seed), 5);
+                assertEquals(mode.name(), whole.getScore(), split.getScore());
+                assertEquals(mode.name(), whole.getPosition(),
+                        split.getPosition());
+                assertEquals(mode.name(), whole.getCorrect(),
+                        split.getCorrect());
+                assertEquals(mode.name(), whole.getIncorrect(),
+                        split.getIncorrect());
+                assertEquals(mode.name(), whole.isOver(), split.isOver());
+                assertEquals(mode.name(), whole.getSecondsLeft(),
+                        split.getSecondsLeft());
+            }
+        }
+    }
+
+    /**
+     * Plays a game answering at the given instants, with up to maxTicks ticks
+     * of random length and a last one up to the instant before each answer.
+     */
+    private static GameEngine play(final GameMode mode, final long[] at,
+            final int[] answers, final Random rnd, final int maxTicks) {
+        final GameEngine engine = new GameEngine(mode, index(),
+                deck(QUESTIONS));
+        for (int i = 0; i < at.length; i++) {
+            final int ticks = (maxTicks == 0) ? 0 : rnd.nextInt(maxTicks + 1);
+            for (int t = 0; t < ticks; t++) {
+                final long left = at[i] - engine.getElapsedNanos();
+                engine.tick((long) (rnd.nextDouble() * left));
+            }
+            engine.tick(at[i] - engine.getElapsedNanos());
+            engine.answer(answers[i], at[i]);
+        }
+
+        return engine;
+    }
+}
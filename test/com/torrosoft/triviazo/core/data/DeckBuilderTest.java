@@ -0,0 +1,195 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import static com.torrosoft.triviazo.core.data.QuestionFixtures.add;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * The quotas of {@link DeckBuilder}: even shares, the spill over of the small
+ * disciplines and the clamp of the deck size.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class DeckBuilderTest {
+    private static final int HISTORY = 30;
+    private static final int GEOGRAPHY = 5;
+    private static final int ART = 12;
+    private static final int AVAILABLE = HISTORY + GEOGRAPHY + ART;
+
+    /**
+     * English questions: 30 of history, 5 of geography and 12 of art, easy.
+     * There are also 7 normal ones of history, 9 of politics which is never
+     * selected and 4 Spanish ones of art.
+     */
+    private static QuestionIndex index() {
+        final List<Question> questions = new ArrayList<Question>();
+        add(questions, HISTORY, Language.en_GB, Difficulty.EASY,
+                Discipline.HISTORY);
+        add(questions, GEOGRAPHY, Language.en_GB, Difficulty.EASY,
+                Discipline.GEOGRAPHY);
+        add(questions, ART, Language.en_GB, Difficulty.EASY, Discipline.ART);
+        add(questions, 7, Language.en_GB, Difficulty.NORMAL,
+                Discipline.HISTORY);
+        add(questions, 9, Language.en_GB, Difficulty.EASY,
+                Discipline.POLITICS);
+        add(questions, 4, Language.es_ES, Difficulty.EASY, Discipline.ART);
+        return QuestionFixtures.index(questions);
+    }
+
+    /**
+     * History, geography and art, and music which has no questions.
+     */
+    private static Map<Discipline, Boolean> disciplines() {
+        final Map<Discipline, Boolean> disciplines = new EnumMap<Discipline, Boolean>(
+                Discipline.class);
+        for (final Discipline dis : Discipline.values()) {
+            disciplines.put(dis, false);
+        }
+        disciplines.put(Discipline.HISTORY, true);
+        disciplines.put(Discipline.GEOGRAPHY, true);
+        disciplines.put(Discipline.ART, true);
+        disciplines.put(Discipline.MUSIC, true);
+        return disciplines;
+    }
+
+    /**
+     * Counts the questions of each discipline in a deck, checking that they
+     * are distinct and match the filters.
+     */
+    private static Map<Discipline, Integer> count(final QuestionIndex index,
+            final int[] deck) {
+        final Map<Discipline, Integer> counts = new EnumMap<Discipline, Integer>(
+                Discipline.class);
+        for (final Discipline dis : Discipline.values()) {
+            counts.put(dis, 0);
+        }
+
+        final Set<Integer> seen = new HashSet<Integer>();
+        for (final int id : deck) {
+            assertTrue("Repeated question " + id, seen.add(id));
+            final Question que = index.get(id);
+            assertEquals(Language.en_GB, que.getLang());
+            assertEquals(Difficulty.EASY, que.getDifficulty());
+            counts.put(que.getDiscipline(), counts.get(que.getDiscipline()) + 1);
+        }
+
+        return counts;
+    }
+
+    @Test
+    public void evenSharesWhenEveryPoolIsBigEnough() {
+        final QuestionIndex index = index();
+        final int[] deck = new DeckBuilder(index).build(Language.en_GB,
+                disciplines(), Difficulty.EASY, 12, new Random(1));
+        assertEquals(12, deck.length);
+
+        final Map<Discipline, Integer> counts = count(index, deck);
+        assertEquals(4, (int) counts.get(Discipline.HISTORY));
+        assertEquals(4, (int) counts.get(Discipline.GEOGRAPHY));
+        assertEquals(4, (int) counts.get(Discipline.ART));
+        assertEquals(0, (int) counts.get(Discipline.POLITICS));
+    }
+
+    @Test
+    public void remainderGoesToSomeStrata() {
+        final QuestionIndex index = index();
+        for (int seed = 0; seed < 20; seed++) {
+            final int[] deck = new DeckBuilder(index).build(Language.en_GB,
+                    disciplines(), Difficulty.EASY, 14, new Random(seed));
+            assertEquals(14, deck.length);
+
+            final Map<Discipline, Integer> counts = count(index, deck);
+            int fives = 0;
+            for (final Discipline dis : new Discipline[] {
+                    Discipline.HISTORY, Discipline.GEOGRAPHY, Discipline.ART }) {
+                final int n = counts.get(dis);
+                assertTrue(dis + " has " + n, (n == 4) || (n == 5));
+                if (n == 5) fives += 1;
+            }
+            assertEquals(2, fives);
+        }
+    }
+
+    @Test
+    public void smallPoolsSpillOverToTheBigOnes() {
+        final QuestionIndex index = index();
+        final int[] deck = new DeckBuilder(index).build(Language.en_GB,
+                disciplines(), Difficulty.EASY, 30, new Random(2));
+        assertEquals(30, deck.length);
+
+        // Geography gives its 5, art its 12 and history the 13 left
+        final Map<Discipline, Integer> counts = count(index, deck);
+        assertEquals(GEOGRAPHY, (int) counts.get(Discipline.GEOGRAPHY));
+        assertEquals(ART, (int) counts.get(Discipline.ART));
+        assertEquals(13, (int) counts.get(Discipline.HISTORY));
+    }
+
+    @Test
+    public void sizeIsClampedToTheQuestionsAvailable() {
+        final QuestionIndex index = index();
+        final DeckBuilder builder = new DeckBuilder(index);
+
+        final int[] all = builder.build(Language.en_GB, disciplines(),
+                Difficulty.EASY, Integer.MAX_VALUE, new Random(3));
+        assertEquals(AVAILABLE, all.length);
+        final Map<Discipline, Integer> counts = count(index, all);
+        assertEquals(HISTORY, (int) counts.get(Discipline.HISTORY));
+
+        assertEquals(0, builder.build(Language.en_GB, disciplines(),
+                Difficulty.EASY, -5, new Random(3)).length);
+        assertEquals(0, builder.build(Language.de_DE, disciplines(),
+                Difficulty.EASY, 10, new Random(3)).length);
+    }
+
+    @Test
+    public void anyDifficultyTakesEveryPool() {
+        final int[] deck = new DeckBuilder(index()).build(Language.en_GB,
+                disciplines(), Difficulty.ALL, Integer.MAX_VALUE,
+                new Random(4));
+        assertEquals(AVAILABLE + 7, deck.length);
+    }
+
+    @Test
+    public void sameSeedSameDeck() {
+        final DeckBuilder builder = new DeckBuilder(index());
+        assertArrayEquals(builder.build(Language.en_GB, disciplines(),
+                Difficulty.EASY, 20, new Random(5)), builder.build(
+                Language.en_GB, disciplines(), Difficulty.EASY, 20,
+                new Random(5)));
+    }
+}
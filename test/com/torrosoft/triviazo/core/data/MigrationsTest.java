@@ -0,0 +1,158 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.torrosoft.triviazo.core.enums.GameMode;
+
+/**
+ * Creates and upgrades real SQLite databases through the {@link Migrations}:
+ * a new one, one made before the migrations existed (version 0) and one
+ * with only the baseline (version 1).
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class MigrationsTest {
+    private static final String INDEXES = "SELECT COUNT(*) AS n FROM sqlite_master "
+            + "WHERE type = 'index' AND name LIKE 'idx_%';";
+    private static final String QUESTIONS = "SELECT COUNT(*) AS n FROM questions;";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String oldName;
+
+    @Before
+    public void useTemporaryDatabase() {
+        oldName = Database.database_name;
+        Database.database_name = new File(folder.getRoot(), "triviazo")
+                .getPath();
+    }
+
+    @After
+    public void restoreDatabaseName() {
+        Database.database_name = oldName;
+    }
+
+    private static int count(final Database db, final String sql) {
+        return db.queryFirst(sql, RowMapper.intColumn("n"));
+    }
+
+    @Test
+    public void newDatabaseGetsEveryStep() {
+        final Database db = new DatabaseDesktop();
+        try {
+            assertEquals(Migrations.getLatestVersion(), db.getUserVersion());
+            assertTrue(count(db, QUESTIONS) > 0);
+            assertEquals(3, count(db, INDEXES));
+            for (final GameMode gm : GameMode.values()) {
+                assertEquals(0, db.getScoreForGameMode(gm));
+            }
+        } finally {
+            db.close();
+        }
+    }
+
+    @Test
+    public void upgradeFromVersion0ReloadsTheQuestionsAndKeepsTheScores() {
+        final int seeded = downgrade(0);
+
+        final Database db = new DatabaseDesktop();
+        try {
+            assertEquals(Migrations.getLatestVersion(), db.getUserVersion());
+            assertEquals(seeded, count(db, QUESTIONS));
+            assertEquals(3, count(db, INDEXES));
+            assertEquals(1234,
+                    db.getScoreForGameMode(GameMode.TEMPUS_FUGIT));
+        } finally {
+            db.close();
+        }
+    }
+
+    @Test
+    public void upgradeFromVersion1OnlyAddsTheIndexes() {
+        downgrade(1);
+
+        final Database db = new DatabaseDesktop();
+        try {
+            assertEquals(Migrations.getLatestVersion(), db.getUserVersion());
+            assertEquals(3, count(db, INDEXES));
+
+            // The baseline isn't applied again, the questions stay as they
+            // were
+            assertEquals(1, count(db, QUESTIONS));
+            assertEquals(1234,
+                    db.getScoreForGameMode(GameMode.TEMPUS_FUGIT));
+        } finally {
+            db.close();
+        }
+    }
+
+    @Test
+    public void upToDateDatabaseIsntTouched() {
+        new DatabaseDesktop().close();
+        assertEquals(0, Migrations.after(Migrations.getLatestVersion()).size());
+
+        final Database db = new DatabaseDesktop();
+        try {
+            assertEquals(Migrations.getLatestVersion(), db.getUserVersion());
+            assertEquals(3, count(db, INDEXES));
+        } finally {
+            db.close();
+        }
+    }
+
+    /**
+     * Makes an old database: the current one without the indexes, with a
+     * score and a single question left, at the given version.
+     * 
+     * @return The number of seed questions.
+     */
+    private static int downgrade(final int version) {
+        final Database db = new DatabaseDesktop();
+        try {
+            final int seeded = count(db, QUESTIONS);
+            db.execute("DROP INDEX idx_questions_category;");
+            db.execute("DROP INDEX idx_ans_que_question;");
+            db.execute("DROP INDEX idx_scoreboard_game_mode;");
+            db.execute("DELETE FROM ans_que WHERE question > "
+                    + "(SELECT MIN(pkid) FROM questions);");
+            db.execute("DELETE FROM questions WHERE pkid > "
+                    + "(SELECT MIN(pkid) FROM questions);");
+            db.addScoreForGameMode(GameMode.TEMPUS_FUGIT, 1234);
+            db.execute("PRAGMA user_version = " + version + ";");
+            assertEquals(0, count(db, INDEXES));
+            assertEquals(1, count(db, QUESTIONS));
+            return seeded;
+        } finally {
+            db.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data;
+
+import java.util.List;
+
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Synthetic question banks for the tests.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public final class QuestionFixtures {
+    private QuestionFixtures() {}
+
+    /**
+     * Adds questions of a category whose right answer is the first one. Their
+     * pkid is their position in the list.
+     */
+    public static void add(final List<Question> questions, final int n,
+            final Language lang, final Difficulty diff, final Discipline dis) {
+        for (int i = 0; i < n; i++) {
+            final int pkid = questions.size();
+            questions.add(new Question(Integer.toString(pkid), "Q" + pkid,
+                    new String[] { "a", "b", "c", "d" }, 0, lang, diff, dis));
+        }
+    }
+
+    /**
+     * Indexes the questions, in order: the id of each one is its position.
+     */
+    public static QuestionIndex index(final List<Question> questions) {
+        return new QuestionIndex(new QuestionSource() {
+            @Override
+            public List<Question> getQuestions(final Language lang,
+                    final Difficulty diff, final Discipline dis) {
+                return questions;
+            }
+        });
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.core.data.pack;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.torrosoft.triviazo.core.data.Database;
+import com.torrosoft.triviazo.core.data.wrappers.Question;
+import com.torrosoft.triviazo.core.enums.Difficulty;
+import com.torrosoft.triviazo.core.enums.Discipline;
+import com.torrosoft.triviazo.core.enums.Language;
+
+/**
+ * Writes question packs and reads them back: the text format, with its
+ * escapes, and the binary one converted from it.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class QuestionPackTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Questions of every language, difficulty and discipline, some of them
+     * with tabs, line breaks, backslashes and accents.
+     */
+    private static List<Question> questions() {
+        final List<Question> questions = new ArrayList<Question>();
+        int n = 0;
+        for (final Language lang : Language.values()) {
+            for (final Difficulty diff : new Difficulty[] { Difficulty.EASY,
+                    Difficulty.NORMAL, Difficulty.HARD }) {
+                for (final Discipline dis : Discipline.values()) {
+                    final String statement = ((n % 3) == 0) ? "¿Año\tde la "
+                            + n + "\\ª pregunta?\n" : "Question " + n;
+                    questions.add(new Question(null, statement, new String[] {
+                            "a" + n, "b\t" + n, "c\\" + n, "Ü" + n },
+                            n % Question.MAX_ANSWERS, lang, diff, dis));
+                    n += 1;
+                }
+            }
+        }
+
+        return questions;
+    }
+
+    private static byte[] write(final List<Question> questions)
+            throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final QuestionPackWriter writer = new QuestionPackWriter(out);
+        writer.comment("A test pack");
+        for (final Question que : questions) {
+            writer.write(que);
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void assertSameQuestion(final Question expected,
+            final Question actual) {
+        assertEquals(expected.getStatement(), actual.getStatement());
+        assertArrayEquals(expected.getAnswers(), actual.getAnswers());
+        assertEquals(expected.getRight(), actual.getRight());
+        assertEquals(expected.getLang(), actual.getLang());
+        assertEquals(expected.getDifficulty(), actual.getDifficulty());
+        assertEquals(expected.getDiscipline(), actual.getDiscipline());
+    }
+
+    @Test
+    public void textPackRoundTrip() throws IOException {
+        final List<Question> questions = questions();
+        final QuestionPackReader reader = new QuestionPackReader(
+                new ByteArrayInputStream(write(questions)));
+        try {
+            for (final Question expected : questions) {
+                assertSameQuestion(expected, reader.next());
+            }
+            assertNull(reader.next());
+            assertEquals(questions.size() + 1, reader.getLineNumber());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void binaryPackRoundTrip() throws IOException {
+        final List<Question> questions = questions();
+        final File file = folder.newFile("test.bin");
+        final QuestionPackReader reader = new QuestionPackReader(
+                new ByteArrayInputStream(write(questions)));
+        try {
+            assertEquals(questions.size(),
+                    BinaryQuestionPackWriter.convert(reader, file));
+        } finally {
+            reader.close();
+        }
+
+        final BinaryQuestionPack pack = new BinaryQuestionPack(file);
+        assertEquals(questions.size(), pack.getQuestionCount());
+
+        // The pkid is the position of the question in the text pack
+        final List<Question> all = pack.getQuestions(null, null, null);
+        assertEquals(questions.size(), all.size());
+        for (final Question actual : all) {
+            final int pkid = Integer.parseInt(actual.getPkid());
+            assertSameQuestion(questions.get(pkid - 1), actual);
+        }
+
+        final List<Question> filtered = pack.getQuestions(Language.fr_FR,
+                Difficulty.HARD, Discipline.ART);
+        assertEquals(1, filtered.size());
+        assertEquals(Language.fr_FR, filtered.get(0).getLang());
+        assertEquals(Difficulty.HARD, filtered.get(0).getDifficulty());
+        assertEquals(Discipline.ART, filtered.get(0).getDiscipline());
+
+        assertEquals(Language.values().length * Discipline.values().length,
+                pack.getQuestions(null, Difficulty.EASY, null).size());
+    }
+
+    @Test
+    public void malformedRecordsAreRejected() throws IOException {
+        final String pack = "# Bad pack\nEnglish\tEasy\tArt\t7\tQ\ta\tb\tc\td\n";
+        final QuestionPackReader reader = new QuestionPackReader(
+                new ByteArrayInputStream(pack.getBytes(QuestionPackReader.CHARSET)));
+        try {
+            reader.next();
+            fail("A right answer out of range was read");
+        } catch (final IOException e) {
+            assertEquals(2, reader.getLineNumber());
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * The seed pack has the 107 questions of the original bank. One of them
+     * had the answer of another question as its right one.
+     */
+    @Test
+    public void seedPackIsWhole() throws IOException {
+        final InputStream in = QuestionPackTest.class.getResourceAsStream("/"
+                + Database.SEED_PACK);
+        assertNotNull(in);
+
+        final QuestionPackReader reader = new QuestionPackReader(in);
+        try {
+            int n = 0;
+            Question que;
+            while ((que = reader.next()) != null) {
+                n += 1;
+                if (que.getStatement().contains("presidente de Alemania")) {
+                    assertEquals("Joachim Gauck",
+                            que.getAnswers()[que.getRight()]);
+                }
+            }
+            assertEquals(107, n);
+        } finally {
+            reader.close();
+        }
+    }
+}
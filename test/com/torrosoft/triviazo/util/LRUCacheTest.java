@@ -0,0 +1,184 @@
+/*
+ * This file is part of Triviazo project.
+ * 
+ * This program is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by the
+ * Free Software Foundation; either version 3 of the License, or (at your
+ * option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with triviazo-project.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Copyright 2026 Sergio Torró.
+ */
+
+package com.torrosoft.triviazo.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.torrosoft.triviazo.util.LRUCache.CacheEntryRemovedListener;
+import com.torrosoft.triviazo.util.LRUCache.Weigher;
+
+/**
+ * The evictions of {@link LRUCache}: by entries, by weight and by time to
+ * live, and the entries given to the listener.
+ * 
+ * @author Sergio Torró
+ * @since 17/10/2026
+ * @version 0.1
+ */
+public class LRUCacheTest {
+    private static final Weigher<String, String> LENGTH = new Weigher<String, String>() {
+        @Override
+        public int weigh(final String key, final String value) {
+            return value.length();
+        }
+    };
+
+    /**
+     * Writes down the keys removed, in order.
+     */
+    private static final class Removed implements
+            CacheEntryRemovedListener<String, String> {
+        private final List<String> keys = new ArrayList<String>();
+
+        @Override
+        public void notifyEntryRemoved(final String key, final String value) {
+            keys.add(key);
+        }
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        for (final boolean strict : new boolean[] { false, true }) {
+            final LRUCache<String, String> cache = new LRUCache<String, String>(
+                    3, strict);
+            final Removed removed = new Removed();
+            cache.setEntryRemovedListener(removed);
+
+            cache.add("a", "1");
+            cache.add("b", "2");
+            cache.add("c", "3");
+            assertEquals("1", cache.get("a"));
+            cache.add("d", "4");
+
+            assertNull(cache.get("b"));
+            assertEquals("1", cache.get("a"));
+            assertEquals(3, cache.size());
+            assertEquals(1, cache.getEvictions());
+            assertEquals("[b]", removed.keys.toString());
+        }
+    }
+
+    @Test
+    public void weightIsBounded() {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(
+                10, LENGTH);
+        final Removed removed = new Removed();
+        cache.setEntryRemovedListener(removed);
+
+        cache.add("a", "xxxx");
+        cache.add("b", "xxx");
+        cache.add("c", "xx");
+        assertEquals(9, cache.getWeight());
+
+        // 9 + 5 is too much: a goes, then b is enough
+        cache.add("d", "xxxxx");
+        assertEquals("[a]", removed.keys.toString());
+        assertEquals(10, cache.getWeight());
+
+        cache.add("e", "xxxxxxxx");
+        assertEquals("[a, b, c, d]", removed.keys.toString());
+        assertEquals(8, cache.getWeight());
+        assertEquals(1, cache.size());
+        assertEquals(4, cache.getEvictions());
+    }
+
+    @Test
+    public void tooHeavyEntryIsntKept() {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(
+                3, LENGTH);
+        cache.add("a", "x");
+        cache.add("b", "xxxx");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void replacedValueIsRemovedAndReweighed() {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(
+                10, LENGTH);
+        final Removed removed = new Removed();
+        cache.setEntryRemovedListener(removed);
+
+        final String value = "xx";
+        cache.add("a", value);
+        cache.add("a", value);
+        assertEquals("[]", removed.keys.toString());
+
+        cache.add("a", "xxxxxx");
+        assertEquals("[a]", removed.keys.toString());
+        assertEquals(6, cache.getWeight());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void expiredEntriesAreRemoved() throws InterruptedException {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(10);
+        final Removed removed = new Removed();
+        cache.setEntryRemovedListener(removed);
+        cache.setTimeToLive(20, TimeUnit.MILLISECONDS);
+
+        cache.add("a", "1");
+        cache.add("b", "2");
+        Thread.sleep(40);
+        cache.add("c", "3");
+
+        // Looked up: it's a miss and it's gone
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.size());
+        assertEquals("[a]", removed.keys.toString());
+
+        // Swept
+        cache.removeExpired();
+        assertEquals("[a, b]", removed.keys.toString());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getWeight());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void entriesNeverExpireByDefault() throws InterruptedException {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(10);
+        cache.add("a", "1");
+        Thread.sleep(5);
+        cache.removeExpired();
+        assertEquals("1", cache.get("a"));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void clearNotifiesEveryEntry() {
+        final LRUCache<String, String> cache = new LRUCache<String, String>(10);
+        final Removed removed = new Removed();
+        cache.setEntryRemovedListener(removed);
+        cache.add("a", "1");
+        cache.add("b", "2");
+        cache.clear();
+
+        assertEquals("[a, b]", removed.keys.toString());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+}